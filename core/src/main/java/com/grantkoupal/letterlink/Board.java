@@ -12,6 +12,7 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.IntArray;
 import com.grantkoupal.letterlink.quantum.core.*;
 
 import java.util.ArrayList;
@@ -31,6 +32,7 @@ public class Board extends Agent {
 
     // Tile color tints based on state
     private static final Color RED_TINT = new Color(1, 0.8f, 0.8f, 1f);
+    private static final Color DARK_RED_TINT = new Color(0.85f, 0.55f, 0.55f, 1f);
     private static final Color YELLOW_TINT = new Color(1, 1, 0.7f, 1f);
     private static final Color GREEN_TINT = new Color(0.7f, 1, 0.7f, 1f);
     private static final Color BLUE_TINT = new Color(0.7f, 0.7f, 1f, 1f);
@@ -40,8 +42,7 @@ public class Board extends Agent {
     private static final float TRACE_WIDTH = 15f;
 
     // Timing constants
-    private static final int RANK_CALCULATION_CUTOFF = 121000;
-    private static final int RANK_CALCULATION_FREQUENCY = 2500;
+    private static final int RANK_UPDATE_CUTOFF = 121000;
 
     // ========================================
     // ENUMS
@@ -53,6 +54,7 @@ public class Board extends Agent {
     public enum LetterState {
         UNSELECTED,  // Not part of current chain
         INVALID,     // Invalid word
+        DEAD,        // No word starts with the chain
         VALID,       // Valid new word
         COPY,        // Word already found
         HINT,        // Hint tile
@@ -63,6 +65,17 @@ public class Board extends Agent {
         FOUND, MISSED, NOTFOUND
     }
 
+    /**
+     * Notified on the render thread when the player finds a new word.
+     */
+    public interface WordFoundListener {
+        /**
+         * @param index Index of the word in the board's word list
+         * @param word  Word found
+         */
+        void onWordFound(int index, String word);
+    }
+
     // ========================================
     // STATIC GAME STATE
     // ========================================
@@ -71,19 +84,30 @@ public class Board extends Agent {
     private static int width;
     private static int height;
     private static List<List<Character>> board;
+    private static SolveResult solution;
 
     // Game data
-    public static final List<Boolean> wordsFound = new ArrayList<Boolean>();
-    public static final List<String> listOfWordsFound = new ArrayList<String>();
-    public static final List<String> wordsLeft = new ArrayList<String>();
+    private static WordRegistry registry;
     public static int boardValue = 0;
     public static int totalPoints = 0;
-    public static float currentRank = 0;
+    private static final RankTracker rankTracker = new RankTracker();
 
     // Timing
     private static long startTime = 0;
     private static long lastGuess = 0;
-    private static long nextLog = 10000;
+
+    // Word found events; the first listener moves the rank, until the round is over
+    private static final List<WordFoundListener> wordFoundListeners = new ArrayList<WordFoundListener>();
+    static {
+        addWordFoundListener(new WordFoundListener() {
+            @Override
+            public void onWordFound(int index, String word) {
+                if (System.currentTimeMillis() - startTime < RANK_UPDATE_CUTOFF) {
+                    rankTracker.addPoints(Solver.getWordValue(word));
+                }
+            }
+        });
+    }
 
     // Hints
     private static int hintsUsed = 0;
@@ -128,6 +152,8 @@ public class Board extends Agent {
     private static Tile currentTile = null;
     private static Tile previousTile = null;
     private static final List<Tile> tileChain = new ArrayList<Tile>();
+    // Trie cursor: entry i is the dictionary node spelled by the first i + 1 letters of the chain
+    private static final IntArray chainNodes = new IntArray();
     private static String stringChain = "";
     public static LetterState currentChainState = LetterState.UNSELECTED;
 
@@ -165,9 +191,11 @@ public class Board extends Agent {
 
     /**
      * Creates a new game board with the specified dimensions.
-     * Loads board data from Solver and initializes game state.
+     * Loads the current solved board from Solver and initializes game state.
      */
     public static void loadNewBoard() {
+        solution = Solver.getCurrentBoard();
+
         resetGameState();
         initializeTimers();
         loadBoardData();
@@ -200,8 +228,8 @@ public class Board extends Agent {
     }
 
     private static void setDimensions() {
-        width = Solver.getBoardWidth();
-        height = Solver.getBoardHeight();
+        width = solution.getWidth();
+        height = solution.getHeight();
 
         if (fb != null) {
             fb.dispose();
@@ -214,7 +242,7 @@ public class Board extends Agent {
     }
 
     private static void initializeBoard() {
-        board = Solver.getBoard();
+        board = solution.getBoard();
     }
 
     private static void generateTiles() {
@@ -243,10 +271,8 @@ public class Board extends Agent {
 
     private static void resetGameState() {
         // Clear collections
-        listOfWordsFound.clear();
-        wordsLeft.clear();
-        wordsFound.clear();
         tileChain.clear();
+        chainNodes.clear();
 
         // Reset references
         previousTile = null;
@@ -256,10 +282,9 @@ public class Board extends Agent {
 
         // Reset counters
         totalPoints = 0;
-        currentRank = 0;
+        rankTracker.reset(solution);
         finalScore = 0;
         hintsUsed = 0;
-        nextLog = 10000;
     }
 
     private static void initializeTimers() {
@@ -268,12 +293,8 @@ public class Board extends Agent {
     }
 
     private static void loadBoardData() {
-        boardValue = Solver.getBoardValue();
-        wordsLeft.addAll(Solver.getTreasureWords());
-
-        for (int i = 0; i < wordsLeft.size(); i++) {
-            wordsFound.add(false);
-        }
+        boardValue = solution.getScore();
+        registry = new WordRegistry(solution);
     }
 
     // ========================================
@@ -344,28 +365,36 @@ public class Board extends Agent {
      * @return true if word was valid and newly found
      */
     private static boolean check(String word) {
-        int index = Solver.getTreasureWords().indexOf(word);
-        if (index != -1 && !wordsFound.get(index)) {
+        int index = solution.indexOf(word);
+        if (index != -1 && registry.markFound(index)) {
             if(word.length() < 6){
                 SoundManager.correctSounds.get(0).render(1 + word.length() / 25f, word.length() / 25f + .75f, 0);
             } else {
                 int soundIndex = (int)(Math.min(1, word.length() / 10f) * SoundManager.correctSounds.size());
                 SoundManager.correctSounds.get(soundIndex).render(1 + word.length() / 10f, word.length() / 10f + .75f, 0);
             }
-            wordsFound.set(index, true);
-            listOfWordsFound.add(word);
             totalPoints += Solver.getWordValue(word);
-            wordsLeft.remove(word);
             lastGuess = System.currentTimeMillis();
             if(System.currentTimeMillis() - startTime <= 120000){
                 finalScore = totalPoints;
             }
+            notifyWordFound(index, word);
             return true;
         }
         SoundManager.tileSelectSounds.get((int)(SoundManager.tileSelectSounds.size() * Math.random())).render(1, .5f, 0);
         return false;
     }
 
+    private static void notifyWordFound(int index, String word) {
+        for (WordFoundListener listener : wordFoundListeners) {
+            listener.onWordFound(index, word);
+        }
+    }
+
+    public static void addWordFoundListener(WordFoundListener listener) {
+        wordFoundListeners.add(listener);
+    }
+
     /**
      * Handles word submission when the player releases the mouse.
      */
@@ -411,6 +440,7 @@ public class Board extends Agent {
      */
     private static void resetTileChain() {
         tileChain.clear();
+        chainNodes.clear();
 
         for (Tile tile : tiles) {
             tile.added = false;
@@ -454,21 +484,41 @@ public class Board extends Agent {
             case 2:
                 setChainState(LetterState.INVALID);
                 break;
+            case 3:
+                setChainState(LetterState.DEAD);
+                break;
         }
     }
 
     /**
-     * Determines the validation state of the current word chain.
-     * @return 0 = already found, 1 = valid new word, 2 = invalid
+     * Determines the validation state of the current word chain from the trie cursor.
+     * @return 0 = already found, 1 = valid new word, 2 = invalid, 3 = no word starts with the chain
      */
     private static int getWordState() {
-        int index = Solver.getTreasureWords().indexOf(buildWordFromChain());
+        int node = chainNodes.peek();
+        if (node == WordDictionary.NONE) {
+            return 3;
+        }
+
+        int index = solution.indexOfNode(node);
         if (index != -1) {
-            return wordsFound.get(index) ? 0 : 1;
+            return registry.isFound(index) ? 0 : 1;
         }
         return 2;
     }
 
+    /**
+     * Moves the trie cursor forward by one letter as a tile is added to the chain.
+     * Once the chain is a dead prefix it stays dead until tiles are removed.
+     */
+    private static void pushChainNode(String letter) {
+        int node = chainNodes.isEmpty() ? WordDictionary.ROOT : chainNodes.peek();
+        if (node != WordDictionary.NONE) {
+            node = solution.getDictionary().child(node, letter.charAt(0) - 'a');
+        }
+        chainNodes.add(node);
+    }
+
     // ========================================
     // HINT SYSTEM
     // ========================================
@@ -481,13 +531,13 @@ public class Board extends Agent {
         hintsUsed++;
         clearAllHints();
 
-        List<Integer> path = Solver.getWordPath(Solver.getTreasureWords().indexOf(word));
-        if (path == null) {
+        int index = solution.indexOf(word);
+        if (index == -1) {
             return;
         }
 
         lastGuess = System.currentTimeMillis();
-        highlightHintPath(path);
+        highlightHintPath(index);
     }
 
     private static void clearAllHints() {
@@ -496,14 +546,14 @@ public class Board extends Agent {
         }
     }
 
-    private static void highlightHintPath(List<Integer> path) {
-        for (int i = 0; i < path.size(); i += 2) {
-            Tile tile = getTile(path.get(i), path.get(i + 1));
+    private static void highlightHintPath(int index) {
+        for (int step = 0; step < solution.getWordPathLength(index); step++) {
+            Tile tile = getTile(solution.getWordPathX(index, step), solution.getWordPathY(index, step));
             if (tile == null) {
                 continue;
             }
 
-            if (i == 0) {
+            if (step == 0) {
                 tile.state = LetterState.HINT_START;
             } else {
                 tile.state = LetterState.HINT;
@@ -536,19 +586,25 @@ public class Board extends Agent {
     }
 
     public static List<String> getWordsInBoard() {
-        return Solver.getTreasureWords();
+        return solution.getWords();
     }
 
-    public static List<Boolean> getWordsFound() {
-        return wordsFound;
+    /**
+     * Gets the found-word registry of the current board.
+     */
+    public static WordRegistry getRegistry() {
+        return registry;
     }
 
     public static int getBoardValue() {
         return boardValue;
     }
 
+    /**
+     * Gets the words found on the current board, in the order they were found.
+     */
     public static List<String> getListOfWordsFound() {
-        return listOfWordsFound;
+        return registry.getFoundWords();
     }
 
     public static String getStringChain() {
@@ -563,12 +619,8 @@ public class Board extends Agent {
         return currentChainState;
     }
 
-    public static List<String> getWordsLeft() {
-        return wordsLeft;
-    }
-
     public static float getCurrentRank() {
-        return currentRank;
+        return rankTracker.getRank();
     }
 
     public static int getHintScore() {
@@ -583,10 +635,11 @@ public class Board extends Agent {
         int length = 0;
         String longestWord = "---";
 
-        for (int i = 0; i < listOfWordsFound.size(); i++) {
-            int newLength = listOfWordsFound.get(i).length();
+        List<String> foundWords = registry.getFoundWords();
+        for (int i = 0; i < foundWords.size(); i++) {
+            int newLength = foundWords.get(i).length();
             if (newLength > length) {
-                longestWord = listOfWordsFound.get(i);
+                longestWord = foundWords.get(i);
                 length = newLength;
             }
         }
@@ -644,8 +697,6 @@ public class Board extends Agent {
 
     @Override
     public void draw(ShapeRenderer sr, SpriteBatch sb) {
-        updateRankCalculation();
-
         calculateLayout();
         drawBackground(sb);
         drawTextBackground(sb);
@@ -657,24 +708,6 @@ public class Board extends Agent {
         }
     }
 
-    /**
-     * Periodically calculates rank in background thread
-     */
-    private void updateRankCalculation() {
-        long time = System.currentTimeMillis() - startTime;
-
-        if (time > nextLog && time < RANK_CALCULATION_CUTOFF) {
-            nextLog += RANK_CALCULATION_FREQUENCY;
-
-            new Thread(new Runnable() {
-                @Override
-                public void run() {
-                    currentRank = (float)Math.pow(Solver.calculateRank(listOfWordsFound), 1.25f);
-                }
-            }).start();
-        }
-    }
-
     // ========================================
     // RENDERING - LAYOUT
     // ========================================
@@ -819,6 +852,9 @@ public class Board extends Agent {
             case INVALID:
                 tile.tile.setColor(RED_TINT);
                 break;
+            case DEAD:
+                tile.tile.setColor(DARK_RED_TINT);
+                break;
             case VALID:
                 tile.tile.setColor(GREEN_TINT);
                 break;
@@ -1159,6 +1195,7 @@ public class Board extends Agent {
             added = true;
             tileChain.add(0, this);
             stringChain = stringChain.concat(letter);
+            pushChainNode(letter);
             previousTile = this;
             updateChainState();
         }
@@ -1170,6 +1207,7 @@ public class Board extends Agent {
             previousTile = this;
             stringChain = stringChain.substring(0, stringChain.length() - 1);
             tileChain.remove(0);
+            chainNodes.pop();
 
             updateChainState();
         }
@@ -0,0 +1,280 @@
+package com.grantkoupal.letterlink;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a few solved boards ready for each board size and power that has been asked for,
+ * so starting a practice game doesn't have to wait for generation.
+ *
+ * A single low priority worker thread generates boards until every requested pool is full,
+ * then sleeps until a board is taken or a new pool is requested. While a caller that found its
+ * pool empty generates its own board, the worker starts nothing new, so the two never compete
+ * for the CPU while the player waits. The pooled letters are saved
+ * to local storage so they survive a restart; boards read back are solved again by the worker
+ * before they are handed out.
+ */
+public final class BoardPool {
+
+    // ===== Constants =====
+    private static final int CAPACITY = 3; // boards kept ready per pool
+    private static final String SAVE_FILE = "board_pool.txt";
+
+    // ===== Pools =====
+    private static final Map<String, ArrayDeque<SolveResult>> ready = new HashMap<>();
+    private static final Map<String, ArrayDeque<String>> unsolved = new HashMap<>(); // loaded letters
+    private static final List<String> requested = new ArrayList<>(); // pools the worker keeps full
+
+    // ===== Worker state =====
+    private static Thread worker;
+    private static boolean dirty = false; // pools changed since the last save
+    private static int foregroundGenerations = 0; // callers generating their own board, see poll()
+    private static GenerationJob inFlight; // board the worker is generating, null while idle or solving
+
+    private BoardPool() {}
+
+    /**
+     * Loads the saved boards and starts the worker.
+     * Called once at startup; later calls do nothing.
+     */
+    public static synchronized void start() {
+        if (worker != null) return;
+
+        load();
+
+        worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                work();
+            }
+        }, "Board Pool");
+        worker.setDaemon(true);
+        worker.setPriority(Thread.MIN_PRIORITY);
+        worker.start();
+    }
+
+    /**
+     * Asks the worker to keep a pool of boards ready for a power and size.
+     *
+     * @param power generation power, as passed to ImprovedBoardGenerator.generateBoard()
+     * @param width board width
+     * @param height board height
+     */
+    public static synchronized void request(int power, int width, int height) {
+        String key = key(power, width, height);
+        if (!requested.contains(key)) {
+            requested.add(key);
+        }
+        BoardPool.class.notifyAll();
+    }
+
+    /**
+     * Takes a solved board from the pool for a power and size, and has the worker replace it.
+     *
+     * If none is ready the caller is expected to generate its own, so the worker holds off:
+     * it starts no new boards until the caller calls resume().
+     *
+     * @return solved board with words sorted longest first, or null if none is ready yet
+     */
+    public static synchronized SolveResult poll(int power, int width, int height) {
+        String key = key(power, width, height);
+        if (!requested.contains(key)) {
+            requested.add(key);
+        }
+
+        ArrayDeque<SolveResult> boards = ready.get(key);
+        if (boards == null || boards.isEmpty()) {
+            // Stop the worker's current board too, the caller's own generation needs the CPU more
+            foregroundGenerations++;
+            if (inFlight != null) {
+                inFlight.cancel();
+            }
+            return null;
+        }
+
+        dirty = true;
+        BoardPool.class.notifyAll();
+        return boards.poll();
+    }
+
+    /**
+     * Lets the worker refill the pools again after a poll() that returned null, once the
+     * caller's own generation has finished or been cancelled.
+     */
+    public static synchronized void resume() {
+        if (foregroundGenerations > 0) {
+            foregroundGenerations--;
+        }
+        BoardPool.class.notifyAll();
+    }
+
+    // ======================================================================
+    // Worker
+    // ======================================================================
+
+    private static void work() {
+        while (true) {
+            String key;
+            String letters;
+            boolean save;
+
+            synchronized (BoardPool.class) {
+                key = nextPool();
+                while (key == null && !dirty) {
+                    try {
+                        BoardPool.class.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    key = nextPool();
+                }
+                letters = key == null ? null : take(unsolved, key);
+                save = dirty;
+                dirty = false;
+            }
+
+            if (save) save();
+            if (key == null) continue;
+
+            try {
+                SolveResult board = letters != null ? solve(key, letters) : generate(key);
+                synchronized (BoardPool.class) {
+                    if (board != null) {
+                        pool(ready, key).add(board);
+                        dirty = true;
+                    }
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            } finally {
+                synchronized (BoardPool.class) {
+                    inFlight = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the first requested pool with room for another board, or none while a caller is
+     * generating its own.
+     * Must hold the class lock.
+     */
+    private static String nextPool() {
+        if (foregroundGenerations > 0) return null;
+        for (String key : requested) {
+            if (pool(ready, key).size() < CAPACITY) return key;
+        }
+        return null;
+    }
+
+    /**
+     * Generates a board for a pool as a job poll() can cancel.
+     *
+     * @return solved board, or null if it was cancelled
+     */
+    private static SolveResult generate(String key) {
+        String[] parts = key.split(" ");
+        GenerationJob job = new GenerationJob(
+            Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+        synchronized (BoardPool.class) {
+            if (foregroundGenerations > 0) return null;
+            inFlight = job;
+        }
+
+        job.run();
+        return job.getResult() == null ? null : job.getResult().getBoard();
+    }
+
+    private static SolveResult solve(String key, String letters) {
+        String[] parts = key.split(" ");
+        return Solver.solveBoard(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), letters).organize();
+    }
+
+    // ======================================================================
+    // Saving
+    // ======================================================================
+
+    /**
+     * Saves every pooled board as a "power width height letters" line.
+     */
+    private static void save() {
+        StringBuilder sb = new StringBuilder();
+        synchronized (BoardPool.class) {
+            for (Map.Entry<String, ArrayDeque<SolveResult>> entry : ready.entrySet()) {
+                for (SolveResult board : entry.getValue()) {
+                    sb.append(entry.getKey()).append(' ').append(board.getLetters()).append('\n');
+                }
+            }
+            for (Map.Entry<String, ArrayDeque<String>> entry : unsolved.entrySet()) {
+                for (String letters : entry.getValue()) {
+                    sb.append(entry.getKey()).append(' ').append(letters).append('\n');
+                }
+            }
+        }
+
+        try {
+            Source.getLocalFile(SAVE_FILE).writeString(sb.toString(), false);
+        } catch (GdxRuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reads the boards saved by save() back as unsolved letters.
+     * Must hold the class lock.
+     */
+    private static void load() {
+        String text;
+        try {
+            FileHandle file = Source.getLocalFile(SAVE_FILE);
+            if (!file.exists()) return;
+            text = file.readString();
+        } catch (GdxRuntimeException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        for (String line : text.split("\n")) {
+            String[] parts = line.trim().split(" ");
+            if (parts.length != 4) continue;
+
+            try {
+                int width = Integer.parseInt(parts[1]);
+                int height = Integer.parseInt(parts[2]);
+                if (parts[3].length() != width * height) continue;
+
+                pool(unsolved, key(Integer.parseInt(parts[0]), width, height)).add(parts[3]);
+            } catch (NumberFormatException ignored) {
+                // Skip lines that weren't written by save()
+            }
+        }
+    }
+
+    // ======================================================================
+    // Helpers
+    // ======================================================================
+
+    private static String key(int power, int width, int height) {
+        return power + " " + width + " " + height;
+    }
+
+    private static <T> ArrayDeque<T> pool(Map<String, ArrayDeque<T>> pools, String key) {
+        ArrayDeque<T> pool = pools.get(key);
+        if (pool == null) {
+            pool = new ArrayDeque<>();
+            pools.put(key, pool);
+        }
+        return pool;
+    }
+
+    private static <T> T take(Map<String, ArrayDeque<T>> pools, String key) {
+        ArrayDeque<T> pool = pools.get(key);
+        return pool == null ? null : pool.poll();
+    }
+}
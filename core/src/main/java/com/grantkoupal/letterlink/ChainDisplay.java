@@ -14,6 +14,7 @@ import com.grantkoupal.letterlink.quantum.paint.Squircle;
  * - Green: Valid new word
  * - Yellow: Already found (duplicate)
  * - Red: Invalid word
+ * - Dark red: No word starts with the chain
  * - White: Empty chain
  *
  * Positioned at top-center of screen with responsive sizing.
@@ -25,6 +26,7 @@ public class ChainDisplay extends Agent {
     // ========================================
 
     private static final Color COLOR_INVALID = new Color(1, 94f / 255, 94f / 255, 1);
+    private static final Color COLOR_DEAD = new Color(200f / 255, 60f / 255, 60f / 255, 1);
     private static final Color COLOR_VALID = new Color(94f / 255, 1, 94f / 255, 1);
     private static final Color COLOR_DUPLICATE = new Color(1, 1, 94f / 255, 1);
     private static final Color COLOR_EMPTY = Color.WHITE;
@@ -181,6 +183,8 @@ public class ChainDisplay extends Agent {
                 return COLOR_DUPLICATE;
             case INVALID:
                 return COLOR_INVALID;
+            case DEAD:
+                return COLOR_DEAD;
             case UNSELECTED:
             case HINT:
             case HINT_START:
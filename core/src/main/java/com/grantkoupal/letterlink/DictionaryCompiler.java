@@ -0,0 +1,33 @@
+package com.grantkoupal.letterlink;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+/**
+ * Build tool that compiles the word files into the binary dictionary asset.
+ * Run by the core compileDictionary Gradle task; not used by the game itself.
+ *
+ * Usage: DictionaryCompiler &lt;Words.txt&gt; &lt;CommonWords.txt&gt; &lt;Dictionary.bin&gt;
+ */
+public class DictionaryCompiler {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: DictionaryCompiler <words> <common words> <output>");
+        }
+
+        byte[] words = Files.readAllBytes(new File(args[0]).toPath());
+        byte[] commonWords = Files.readAllBytes(new File(args[1]).toPath());
+        WordDictionary dictionary = WordDictionary.build(words, commonWords);
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(args[2]))) {
+            dictionary.write(out);
+        }
+
+        System.out.println("Compiled " + dictionary.getWordCount() + " words (" + dictionary.getNodeCount() + " nodes) to " + args[2]);
+    }
+}
@@ -9,8 +9,6 @@ import com.grantkoupal.letterlink.quantum.core.Page;
 import com.grantkoupal.letterlink.quantum.core.TimeFrame;
 import com.grantkoupal.letterlink.quantum.core.Timer;
 
-import java.util.ArrayList;
-
 public class FindMatch extends Page {
 
     // ===== Constants =====
@@ -69,20 +67,13 @@ public class FindMatch extends Page {
                 @Override
                 public void onMatchReady(MatchStatusResponse response) {
                     System.out.println("MATCH READY");
-                    Solver.setBoard(SessionData.currentBoardWidth, SessionData.currentBoardHeight, response.boardLetters);
-                    Solver.resetWords();
-                    int width = SessionData.currentBoardWidth;
-                    int height = SessionData.currentBoardHeight;
-
                     // Find all valid words in the board
-                    for (int x = 0; x < width; x++) {
-                        for (int y = 0; y < height; y++) {
-                            Solver.checkWords(x, y, "", new int[width][height], new ArrayList<>());
-                        }
-                    }
-
-                    Solver.setBoardValue(Solver.calculatePoints());
-                    Solver.organize();
+                    SolveResult board = Solver.solveBoard(
+                        SessionData.currentBoardWidth,
+                        SessionData.currentBoardHeight,
+                        response.boardLetters
+                    );
+                    Solver.setCurrentBoard(board.organize());
 
                     me().response = response;
                     matchFound = true;
@@ -62,6 +62,7 @@ public class GamePage extends Page {
      */
     private void computePredictedScore() {
         List<String> words = Board.getWordsInBoard();
+        WordRegistry registry = Board.getRegistry();
 
         int total;
         int x = words.size();
@@ -85,7 +86,7 @@ public class GamePage extends Page {
                 String word = words.get(i);
 
                 // Only count easier words in predicted score
-                if (WordDifficultyRanker.wordDifficulty(word) < 80) {
+                if (registry.getDifficulty(i) < 80) {
                     count++;
                     predictedScore += Solver.getWordValue(word);
                 }
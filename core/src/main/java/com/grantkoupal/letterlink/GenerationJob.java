@@ -0,0 +1,218 @@
+package com.grantkoupal.letterlink;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One board generation that can be watched and cancelled from another thread.
+ *
+ * Run it on a background thread; the UI can read getProgress() and getBestScore() while it
+ * works and call cancel() when the result is no longer wanted. Every candidate board the
+ * generator scores is a checkpoint: the job records the score there and, once cancelled,
+ * throws out of the hill climbing or annealing loop, so an abandoned generation stops within
+ * one board instead of running to the end.
+ */
+public final class GenerationJob implements Runnable {
+
+    /**
+     * Job the generator on this thread reports to, null when generating outside a job.
+     */
+    private static final ThreadLocal<GenerationJob> current = new ThreadLocal<>();
+
+    // ===== Settings =====
+    private final int power;
+    private final int width;
+    private final int height;
+    private final SplittableRandom random;
+    private final int maxAttempts;
+    private final long maxMillis;
+
+    // ===== Progress =====
+    private final AtomicInteger iterations = new AtomicInteger();
+    private final AtomicInteger attempts = new AtomicInteger(); // boards finished, out of maxAttempts
+    private final AtomicInteger bestScore = new AtomicInteger();
+    private volatile boolean cancelled = false;
+    private volatile boolean done = false;
+    private volatile long startNanos;
+    private volatile GenerationResult result;
+
+    /**
+     * Creates a job with a fresh unseeded random source and generateBoard()'s default budget.
+     */
+    public GenerationJob(int power, int width, int height) {
+        this(power, width, height, new SplittableRandom(),
+            ImprovedBoardGenerator.MAX_ATTEMPTS, ImprovedBoardGenerator.MAX_MILLIS);
+    }
+
+    /**
+     * @param power       Difficulty level (0 = easiest/fastest, 9 = hardest/slowest)
+     * @param width       Board width
+     * @param height      Board height
+     * @param random      Source of randomness, not shared with other threads
+     * @param maxAttempts Most boards to generate
+     * @param maxMillis   Wall-clock time after which no new board is started
+     * @see ImprovedBoardGenerator#generate(int, int, int, SplittableRandom, int, long)
+     */
+    public GenerationJob(int power, int width, int height, SplittableRandom random, int maxAttempts, long maxMillis) {
+        this.power = power;
+        this.width = width;
+        this.height = height;
+        this.random = random;
+        this.maxAttempts = maxAttempts;
+        this.maxMillis = maxMillis;
+    }
+
+    @Override
+    public void run() {
+        startNanos = System.nanoTime();
+        GenerationJob previous = swapCurrent(this);
+        try {
+            GenerationResult generated =
+                ImprovedBoardGenerator.generate(power, width, height, random, maxAttempts, maxMillis);
+
+            // A cancel that lands after the last checkpoint still discards the board
+            if (!cancelled) {
+                result = generated;
+            }
+        } catch (CancellationException ignored) {
+            // Stopped at a checkpoint after cancel()
+        } finally {
+            swapCurrent(previous);
+            done = true;
+        }
+    }
+
+    /**
+     * Asks the generation to stop at its next checkpoint. A result not yet published when this
+     * is called is discarded, so getResult() stays null; callers publishing a result from
+     * another thread should still check isCancelled() first.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Checks if run() has returned, either with a result or because it was cancelled.
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * @return the generated board and why generation stopped, or null until done or if cancelled
+     */
+    public GenerationResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return number of candidate boards scored so far, across every thread of the generation
+     */
+    public int getIterations() {
+        return iterations.get();
+    }
+
+    /**
+     * Gets how much of the budget the generation has used: the boards finished out of
+     * maxAttempts, or the time used out of maxMillis if that is further along. A generation
+     * that meets the point threshold early jumps to 1 when done.
+     *
+     * @return progress from 0 to 1, 1 once done
+     */
+    public float getProgress() {
+        if (done) return 1f;
+
+        float progress = attempts.get() / (float) maxAttempts;
+        long start = startNanos;
+        if (maxMillis != ImprovedBoardGenerator.NO_TIME_LIMIT && start != 0) {
+            progress = Math.max(progress, (System.nanoTime() - start) / (maxMillis * 1000000f));
+        }
+        return Math.min(1f, progress);
+    }
+
+    /**
+     * @return highest score of any candidate board so far
+     */
+    public int getBestScore() {
+        return bestScore.get();
+    }
+
+    // ======================================================================
+    // Checkpoints
+    // ======================================================================
+
+    /**
+     * Gets the job the generator on this thread reports to.
+     */
+    static GenerationJob current() {
+        return current.get();
+    }
+
+    /**
+     * Makes a job the one this thread reports to, so worker threads can report to the job
+     * that forked them.
+     *
+     * @return the job this thread reported to before, to restore when done
+     */
+    static GenerationJob swapCurrent(GenerationJob job) {
+        GenerationJob previous = current.get();
+        current.set(job);
+        return previous;
+    }
+
+    /**
+     * Stops the generation on this thread if its job was cancelled.
+     *
+     * @throws CancellationException if the job was cancelled
+     */
+    static void checkpoint() {
+        GenerationJob job = current.get();
+        if (job != null && job.cancelled) {
+            throw new CancellationException();
+        }
+    }
+
+    /**
+     * Counts a board finished by ImprovedBoardGenerator.generate() against the attempt budget.
+     */
+    static void attempted() {
+        GenerationJob job = current.get();
+        if (job == null) return;
+
+        job.attempts.incrementAndGet();
+    }
+
+    /**
+     * Counts a candidate board about to be scored, and stops the generation first if its job
+     * was cancelled.
+     *
+     * @throws CancellationException if the job was cancelled
+     */
+    static void candidate() {
+        GenerationJob job = current.get();
+        if (job == null) return;
+        if (job.cancelled) {
+            throw new CancellationException();
+        }
+
+        job.iterations.incrementAndGet();
+    }
+
+    /**
+     * Records the score of a candidate board counted by candidate().
+     */
+    static void scored(int score) {
+        GenerationJob job = current.get();
+        if (job == null) return;
+
+        int best = job.bestScore.get();
+        while (score > best && !job.bestScore.compareAndSet(best, score)) {
+            best = job.bestScore.get();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.grantkoupal.letterlink;
+
+/**
+ * Immutable outcome of ImprovedBoardGenerator.generate() or generateWithinTime(): the best
+ * board found, how many boards were tried, and why generation stopped.
+ */
+public final class GenerationResult {
+
+    /**
+     * Why a generation stopped trying new boards.
+     */
+    public enum StopReason {
+        /** The board reached the minimum point threshold. */
+        THRESHOLD_MET,
+        /** The attempt or time budget ran out first; the board is the best one seen. */
+        BUDGET_EXHAUSTED
+    }
+
+    private final SolveResult board;
+    private final StopReason stopReason;
+    private final int attempts;
+
+    /**
+     * @param board      Best board found, with words sorted longest first
+     * @param stopReason Why generation stopped
+     * @param attempts   Number of boards generated and solved
+     */
+    GenerationResult(SolveResult board, StopReason stopReason, int attempts) {
+        this.board = board;
+        this.stopReason = stopReason;
+        this.attempts = attempts;
+    }
+
+    public SolveResult getBoard() {
+        return board;
+    }
+
+    public StopReason getStopReason() {
+        return stopReason;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Checks if the board reached the minimum point threshold.
+     */
+    public boolean isThresholdMet() {
+        return stopReason == StopReason.THRESHOLD_MET;
+    }
+}
@@ -11,9 +11,6 @@ import com.grantkoupal.letterlink.quantum.core.Action;
 import com.grantkoupal.letterlink.quantum.core.Agent;
 import com.grantkoupal.letterlink.quantum.core.Animation;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -73,7 +70,7 @@ public class HintTable extends Agent {
     private BitmapFont font;
     private final GlyphLayout fontLayout;
     private final List<String> validWords;
-    private final List<Boolean> wordsFound;
+    private final WordRegistry registry;
 
     // Scroll state
     private float scroll = 0;
@@ -90,12 +87,12 @@ public class HintTable extends Agent {
 
     /**
      * Creates a new HintTable showing all valid words in the puzzle.
-     * @param validWords List of all valid words that can be found
-     * @param wordsFound List tracking which words have been discovered
+     * Words are listed in board order, which organize() has already sorted longest first.
+     * @param registry Found-word registry of the current board
      */
-    public HintTable(List<String> validWords, List<Boolean> wordsFound) {
-        this.validWords = createSortedCopy(validWords);
-        this.wordsFound = wordsFound;
+    public HintTable(WordRegistry registry) {
+        this.validWords = registry.getBoard().getWords();
+        this.registry = registry;
         this.fontLayout = new GlyphLayout();
 
         initializeFont();
@@ -110,37 +107,6 @@ public class HintTable extends Agent {
         font = Source.generateFont(DataManager.fontName, FONT_SIZE);
     }
 
-    /**
-     * Creates a sorted copy of the word list.
-     * Sorted by length (longest first), then alphabetically.
-     */
-    private List<String> createSortedCopy(List<String> words) {
-        List<String> copy = new ArrayList<String>(words);
-        sortByLengthDescThenAlphabetically(copy);
-        return copy;
-    }
-
-    /**
-     * Sorts words by length (longest first), then alphabetically.
-     * @param list List to sort in-place
-     */
-    public static void sortByLengthDescThenAlphabetically(List<String> list) {
-        Collections.sort(list, new Comparator<String>() {
-            @Override
-            public int compare(String s1, String s2) {
-                // First compare by length (longest first)
-                int lengthCompare = Integer.compare(s2.length(), s1.length());
-
-                // If lengths are equal, compare alphabetically
-                if (lengthCompare == 0) {
-                    return s1.compareToIgnoreCase(s2);
-                }
-
-                return lengthCompare;
-            }
-        });
-    }
-
     /**
      * Sets up continuous scroll animation that responds to mouse input.
      */
@@ -300,7 +266,7 @@ public class HintTable extends Agent {
             return;
         }
 
-        boolean isFound = wordsFound.get(wordIndex);
+        boolean isFound = registry.isFound(wordIndex);
         String displayWord = getDisplayWord(wordIndex, isFound);
         float yPosition = calculateRowYPosition(rowIndex);
 
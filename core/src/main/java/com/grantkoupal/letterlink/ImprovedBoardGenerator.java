@@ -1,8 +1,12 @@
 package com.grantkoupal.letterlink;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Research-backed board generator using hill climbing and simulated annealing.
@@ -14,11 +18,13 @@ import java.util.Random;
  * - "After 20 Years, the Globally Optimal Boggle Board" (Dan Vanderkam, 2025)
  * - "A Computational Proof of the Highest-Scoring Boggle Board" (arXiv 2507.02117)
  * - Multiple implementations of simulated annealing for dense Boggle boards
+ *
+ * Every generator takes the random source it draws from, so a board can be generated again
+ * from the same seed, and generations on different threads never share one. Only the
+ * generateBoard() overload without one uses a fresh unseeded source.
  */
 public class ImprovedBoardGenerator {
 
-    private static final Random random = new Random();
-
     /**
      * Letters optimized for Boggle board generation based on research.
      * Research shows limiting to ~14 high-value letters produces better boards.
@@ -49,29 +55,92 @@ public class ImprovedBoardGenerator {
      * 2. Make small changes (swap/change 1-2 letters)
      * 3. Keep changes that improve score
      * 4. Repeat until no improvement for N iterations
+     * Restarts run in parallel across the ForkJoinPool, each scoring on its own Solver.
      *
      * @param width board width
      * @param height board height
      * @param restarts number of random restarts (more = better, 5-10 recommended)
+     * @param random source of randomness, not shared with other threads
      * @return optimized board string
      */
-    public static String generateBoardHillClimbing(int width, int height, int restarts) {
+    static String generateBoardHillClimbing(int width, int height, int restarts, SplittableRandom random) {
+        // Each restart gets its own split of the random source, taken in restart order,
+        // so the result for a seed doesn't depend on how the restarts are scheduled
+        final List<HillClimb> climbs = new ArrayList<>(restarts);
+        for (int restart = 0; restart < restarts; restart++) {
+            climbs.add(new HillClimb(width, height, random.split(), GenerationJob.current()));
+        }
+
+        // Multiple random restarts to avoid local optima, each on its own ForkJoinPool worker
+        if (restarts > 1 && Runtime.getRuntime().availableProcessors() > 1) {
+            ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(climbs);
+                }
+            });
+        } else {
+            for (HillClimb climb : climbs) {
+                climb.compute();
+            }
+        }
+
         String bestBoard = null;
         int bestScore = 0;
+        for (HillClimb climb : climbs) {
+            if (climb.score > bestScore) {
+                bestScore = climb.score;
+                bestBoard = climb.board;
+            }
+        }
+
+        return bestBoard;
+    }
+
+    /**
+     * One hill climbing restart, scored on the worker thread's Solver and reported to the
+     * job that started the climb.
+     */
+    private static final class HillClimb extends RecursiveAction {
+        private final int width;
+        private final int height;
+        private final SplittableRandom random;
+        private final GenerationJob job;
+
+        private String board;
+        private int score;
+
+        HillClimb(int width, int height, SplittableRandom random, GenerationJob job) {
+            this.width = width;
+            this.height = height;
+            this.random = random;
+            this.job = job;
+        }
+
+        @Override
+        protected void compute() {
+            GenerationJob previous = GenerationJob.swapCurrent(job);
+            try {
+                climb();
+            } finally {
+                GenerationJob.swapCurrent(previous);
+            }
+        }
+
+        private void climb() {
+            ScoreCache scores = new ScoreCache();
 
-        // Multiple random restarts to avoid local optima
-        for (int restart = 0; restart < restarts; restart++) {
             // Start with a smart initial board
-            String currentBoard = generateSmartInitialBoard(width, height);
-            int currentScore = evaluateBoard(currentBoard, width, height);
+            String currentBoard = generateSmartInitialBoard(width, height, random);
+            int currentScore = scores.score(currentBoard, width, height);
 
             int iterationsWithoutImprovement = 0;
             int maxIterationsWithoutImprovement = 100;
 
             // Hill climb until we plateau
             while (iterationsWithoutImprovement < maxIterationsWithoutImprovement) {
-                String neighbor = generateNeighbor(currentBoard, width, height);
-                int neighborScore = evaluateBoard(neighbor, width, height);
+                String neighbor = generateNeighbor(currentBoard, width, height, random);
+                int neighborScore = scores.score(neighbor, width, height);
 
                 if (neighborScore > currentScore) {
                     currentBoard = neighbor;
@@ -82,81 +151,144 @@ public class ImprovedBoardGenerator {
                 }
             }
 
-            if (currentScore > bestScore) {
-                bestScore = currentScore;
-                bestBoard = currentBoard;
-            }
+            board = currentBoard;
+            score = currentScore;
         }
+    }
 
-        return bestBoard;
+    static final int MIN_POINTS_THRESHOLD = 100000;
+    static final int MAX_ATTEMPTS = 20; // boards generateBoard() tries before settling for the best
+    static final long MAX_MILLIS = 30000; // time after which unseeded generateBoard() settles for the best
+    static final long NO_TIME_LIMIT = Long.MAX_VALUE; // budget of seeded generations, which stop on attempts only
+
+    /**
+     * Solver used to score candidate boards, one per thread so generations never share search buffers.
+     */
+    private static final ThreadLocal<Solver> solvers = new ThreadLocal<Solver>() {
+        @Override
+        protected Solver initialValue() {
+            return new Solver();
+        }
+    };
+
+    /**
+     * Generates a solved board with the specified difficulty.
+     *
+     * @param power Difficulty level (0 = easiest/fastest, 9 = hardest/slowest)
+     * @param width board width
+     * @param height board height
+     * @return solved board with words sorted longest first
+     */
+    public static SolveResult generateBoard(int power, int width, int height){
+        return generate(power, width, height, new SplittableRandom(), MAX_ATTEMPTS, MAX_MILLIS).getBoard();
     }
 
-    private static final int MIN_POINTS_THRESHOLD = 100000;
-    private static int power;
-    private static int width;
-    private static int height;
-    private static List<String> wordsInBoard = new ArrayList<>();
-    private static List<Boolean> wordsFound = new ArrayList<>();
-    private static List<String> listOfWordsFound = new ArrayList<>();
-
-    public static void generateBoard(int power, int width, int height){
-        ImprovedBoardGenerator.power = power;
-        ImprovedBoardGenerator.width = width;
-        ImprovedBoardGenerator.height = height;
-        generate();
+    /**
+     * Generates a solved board that is the same every time for the same seed, power, and size.
+     *
+     * @param power Difficulty level (0 = easiest/fastest, 9 = hardest/slowest)
+     * @param width board width
+     * @param height board height
+     * @param seed seed the board is generated from
+     * @return solved board with words sorted longest first
+     */
+    public static SolveResult generateBoard(int power, int width, int height, long seed){
+        return generateBoard(power, width, height, new SplittableRandom(seed));
     }
 
-     /**
-     * Generates a board layout using the Solver with the specified difficulty.
-     * Recursively regenerates until minimum point threshold is met.
+    /**
+     * Generates a solved board drawing every random choice from the given source.
+     * Stops on the attempt budget only, never on time, so the same seed gives the same board
+     * on every device.
+     *
+     * @param power Difficulty level (0 = easiest/fastest, 9 = hardest/slowest)
+     * @param width board width
+     * @param height board height
+     * @param random source of randomness, not shared with other threads
+     * @return solved board with words sorted longest first
      */
-    private static void generate() {
-        Solver.setBoard(width, height, generateBoardString(power));
-        Solver.resetWords();
-        listOfWordsFound.clear();
-        wordsFound.clear();
+    public static SolveResult generateBoard(int power, int width, int height, SplittableRandom random){
+        return generate(power, width, height, random, MAX_ATTEMPTS, NO_TIME_LIMIT).getBoard();
+    }
 
-        // Find all valid words in the board
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                Solver.checkWords(x, y, "", new int[width][height], new ArrayList<>());
+    /**
+     * Generates boards until one meets the minimum point threshold or the budget runs out,
+     * keeping the best board seen. At least one board is always generated, so the time
+     * budget can be overrun by one generation.
+     *
+     * @param power Difficulty level (0 = easiest/fastest, 9 = hardest/slowest)
+     * @param width board width
+     * @param height board height
+     * @param random source of randomness, not shared with other threads
+     * @param maxAttempts most boards to generate
+     * @param maxMillis wall-clock time after which no new board is started, or NO_TIME_LIMIT
+     *                  to stop on attempts only so the board depends on nothing but the random source
+     * @return best board found and why generation stopped
+     */
+    public static GenerationResult generate(int power, int width, int height, SplittableRandom random,
+                                            int maxAttempts, long maxMillis) {
+        long start = System.nanoTime();
+        SolveResult best = null;
+        int attempts = 0;
+
+        do {
+            GenerationJob.checkpoint();
+
+            // Find all valid words in the board
+            SolveResult result = Solver.solveBoard(width, height, generateBoardString(power, width, height, random));
+            attempts++;
+            GenerationJob.attempted();
+
+            if (best == null || result.getScore() > best.getScore()) {
+                best = result;
             }
-        }
 
-        // Regenerate if board doesn't meet minimum points threshold
-        int points = Solver.calculatePoints();
-        if (points < MIN_POINTS_THRESHOLD) {
-            generate();
-            return;
-        }
+            if (best.getScore() >= MIN_POINTS_THRESHOLD) {
+                return new GenerationResult(best.organize(), GenerationResult.StopReason.THRESHOLD_MET, attempts);
+            }
+        } while (attempts < maxAttempts
+            && (maxMillis == NO_TIME_LIMIT || System.nanoTime() - start < maxMillis * 1000000L));
 
-        Solver.setBoardValue(points);
-        Solver.organize();
-        wordsInBoard = Solver.getTreasureWords();
+        return new GenerationResult(best.organize(), GenerationResult.StopReason.BUDGET_EXHAUSTED, attempts);
+    }
 
-        // Initialize word found tracking
-        for (int i = 0; i < wordsInBoard.size(); i++) {
-            wordsFound.add(false);
-        }
+    /**
+     * Generates a solved board with the best layout found in a fixed amount of time, for callers
+     * that care about the wait more than a fixed power level. Slow devices get a weaker board
+     * instead of a longer wait.
+     *
+     * @param width board width
+     * @param height board height
+     * @param millis time to spend generating, before the final solve
+     * @param random source of randomness, not shared with other threads
+     * @return best board found, THRESHOLD_MET if it reaches the minimum point threshold
+     */
+    public static GenerationResult generateWithinTime(int width, int height, long millis, SplittableRandom random) {
+        SolveResult board = Solver.solveBoard(width, height, generateBoardAnytime(width, height, millis, random)).organize();
+        GenerationResult.StopReason reason = board.getScore() >= MIN_POINTS_THRESHOLD
+            ? GenerationResult.StopReason.THRESHOLD_MET
+            : GenerationResult.StopReason.BUDGET_EXHAUSTED;
+        return new GenerationResult(board, reason, 1);
     }
 
     /**
      * Selects a board generation algorithm based on power level.
      * @param power Difficulty level (0 = easiest/fastest, 9 = hardest/slowest)
+     * @param random source of randomness, not shared with other threads
      * @return Generated board string
      */
-    private static String generateBoardString(int power) {
+    private static String generateBoardString(int power, int width, int height, SplittableRandom random) {
         switch (power) {
-            case 0: return generateFastLevel3(width, height);
-            case 1: return generateFastLevel2_5(width, height);
-            case 2: return generateFastLevel2(width, height);
-            case 3: return generateFastLevel1_5(width, height);
-            case 4: return generateFastLevel1(width, height);
-            case 5: return generateOptimizedBoard(width, height);
-            case 6: return generateClusteredBoard(width, height);
-            case 7: return generateOptimalBoard(width, height);
-            case 8: return generateBestBoard(width, height);
-            default: return generateHybridBoard(width, height);
+            case 0: return generateFastLevel3(width, height, random);
+            case 1: return generateFastLevel2_5(width, height, random);
+            case 2: return generateFastLevel2(width, height, random);
+            case 3: return generateFastLevel1_5(width, height, random);
+            case 4: return generateFastLevel1(width, height, random);
+            case 5: return generateOptimizedBoard(width, height, random);
+            case 6: return generateClusteredBoard(width, height, random);
+            case 7: return generateOptimalBoard(width, height, random);
+            case 8: return generateBestBoard(width, height, random);
+            default: return generateHybridBoard(width, height, random);
         }
     }
 
@@ -167,11 +299,13 @@ public class ImprovedBoardGenerator {
      * @param width board width
      * @param height board height
      * @param iterations total iterations to run
+     * @param random source of randomness, not shared with other threads
      * @return optimized board string
      */
-    public static String generateBoardSimulatedAnnealing(int width, int height, int iterations) {
-        String currentBoard = generateSmartInitialBoard(width, height);
-        int currentScore = evaluateBoard(currentBoard, width, height);
+    static String generateBoardSimulatedAnnealing(int width, int height, int iterations, SplittableRandom random) {
+        ScoreCache scores = new ScoreCache();
+        String currentBoard = generateSmartInitialBoard(width, height, random);
+        int currentScore = scores.score(currentBoard, width, height);
 
         String bestBoard = currentBoard;
         int bestScore = currentScore;
@@ -180,13 +314,13 @@ public class ImprovedBoardGenerator {
         double coolingRate = 0.95; // T = T₀ * (0.95)^n
 
         for (int i = 0; i < iterations; i++) {
-            String neighbor = generateNeighbor(currentBoard, width, height);
-            int neighborScore = evaluateBoard(neighbor, width, height);
+            String neighbor = generateNeighbor(currentBoard, width, height, random);
+            int neighborScore = scores.score(neighbor, width, height);
 
             int delta = neighborScore - currentScore;
 
             // Accept if better, or probabilistically if worse
-            if (delta > 0 || Math.random() < Math.exp(delta / temperature)) {
+            if (delta > 0 || random.nextDouble() < Math.exp(delta / temperature)) {
                 currentBoard = neighbor;
                 currentScore = neighborScore;
 
@@ -203,6 +337,57 @@ public class ImprovedBoardGenerator {
         return bestBoard;
     }
 
+    /**
+     * ANYTIME APPROACH - best board found within a wall-clock budget.
+     * Hill climbs like generateBoardHillClimbing(), starting a new climb from a fresh board
+     * whenever one plateaus, until the deadline passes. Quality scales with device speed
+     * instead of the wait.
+     *
+     * @param width board width
+     * @param height board height
+     * @param millis time to spend, overrun by at most one candidate board
+     * @param random source of randomness, not shared with other threads
+     * @return best board string found before the deadline
+     */
+    static String generateBoardAnytime(int width, int height, long millis, SplittableRandom random) {
+        long deadline = System.nanoTime() + millis * 1000000L;
+
+        ScoreCache scores = new ScoreCache();
+        String bestBoard = generateSmartInitialBoard(width, height, random);
+        int bestScore = scores.score(bestBoard, width, height);
+
+        String currentBoard = bestBoard;
+        int currentScore = bestScore;
+        int iterationsWithoutImprovement = 0;
+
+        while (System.nanoTime() < deadline) {
+            // Restart from a fresh board once this climb has plateaued
+            if (iterationsWithoutImprovement >= 100) {
+                currentBoard = generateSmartInitialBoard(width, height, random);
+                currentScore = scores.score(currentBoard, width, height);
+                iterationsWithoutImprovement = 0;
+            } else {
+                String neighbor = generateNeighbor(currentBoard, width, height, random);
+                int neighborScore = scores.score(neighbor, width, height);
+
+                if (neighborScore > currentScore) {
+                    currentBoard = neighbor;
+                    currentScore = neighborScore;
+                    iterationsWithoutImprovement = 0;
+                } else {
+                    iterationsWithoutImprovement++;
+                }
+            }
+
+            if (currentScore > bestScore) {
+                bestScore = currentScore;
+                bestBoard = currentBoard;
+            }
+        }
+
+        return bestBoard;
+    }
+
     /**
      * HYBRID APPROACH - Best of both worlds.
      * Uses simulated annealing early, then hill climbing to finish.
@@ -211,19 +396,21 @@ public class ImprovedBoardGenerator {
      *
      * @param width board width
      * @param height board height
+     * @param random source of randomness, not shared with other threads
      * @return highly optimized board string
      */
-    public static String generateBoardHybrid(int width, int height) {
+    static String generateBoardHybrid(int width, int height, SplittableRandom random) {
         // Phase 1: Simulated annealing for 500 iterations to find good region
-        String board = generateBoardSimulatedAnnealing(width, height, 500);
+        String board = generateBoardSimulatedAnnealing(width, height, 500, random);
 
         // Phase 2: Hill climbing to find local optimum
-        int score = evaluateBoard(board, width, height);
+        ScoreCache scores = new ScoreCache();
+        int score = scores.score(board, width, height);
         int iterationsWithoutImprovement = 0;
 
         while (iterationsWithoutImprovement < 200) {
-            String neighbor = generateNeighbor(board, width, height);
-            int neighborScore = evaluateBoard(neighbor, width, height);
+            String neighbor = generateNeighbor(board, width, height, random);
+            int neighborScore = scores.score(neighbor, width, height);
 
             if (neighborScore > score) {
                 board = neighbor;
@@ -241,7 +428,7 @@ public class ImprovedBoardGenerator {
      * Creates a smart initial board by strategically placing high-value patterns.
      * Research shows boards with -ING, -ER, -ED, -S endings score highest.
      */
-    private static String generateSmartInitialBoard(int width, int height) {
+    private static String generateSmartInitialBoard(int width, int height, SplittableRandom random) {
         char[][] board = new char[width][height];
         int size = width * height;
 
@@ -249,14 +436,14 @@ public class ImprovedBoardGenerator {
         boolean endingPlaced = false;
         if (size >= 3 && random.nextDouble() < 0.7) {
             String ending = VALUABLE_ENDINGS[random.nextInt(VALUABLE_ENDINGS.length)];
-            placePattern(board, width, height, ending);
+            placePattern(board, width, height, ending, random);
             endingPlaced = true;
         }
 
         // Strategy 2: Place valuable prefixes
         if (size >= 3 && random.nextDouble() < 0.5 && !endingPlaced) {
             String prefix = VALUABLE_PREFIXES[random.nextInt(VALUABLE_PREFIXES.length)];
-            placePattern(board, width, height, prefix);
+            placePattern(board, width, height, prefix, random);
         }
 
         // Strategy 3: Fill rest with high-value letters
@@ -274,7 +461,7 @@ public class ImprovedBoardGenerator {
     /**
      * Places a pattern (like "ing" or "er") somewhere on the board.
      */
-    private static void placePattern(char[][] board, int width, int height, String pattern) {
+    private static void placePattern(char[][] board, int width, int height, String pattern, SplittableRandom random) {
         int attempts = 20;
         while (attempts-- > 0) {
             int x = random.nextInt(width);
@@ -334,7 +521,7 @@ public class ImprovedBoardGenerator {
      * Generates a neighboring board by making small modifications.
      * Research shows best results come from changing 1-3 letters at a time.
      */
-    private static String generateNeighbor(String board, int width, int height) {
+    private static String generateNeighbor(String board, int width, int height, SplittableRandom random) {
         char[] chars = board.toCharArray();
         int numChanges = 1 + random.nextInt(2); // Change 1-2 letters
 
@@ -358,24 +545,49 @@ public class ImprovedBoardGenerator {
     }
 
     /**
-     * Evaluates a board by actually solving it and getting the real score.
-     * This is the most accurate evaluation method.
+     * Scores of the boards one search has visited most recently.
+     *
+     * Climbers keep proposing neighbors that can't win: a mutation that puts back the letter
+     * that was already there leaves the board unchanged, and with only a few hundred one and
+     * two letter mutations of a board the same neighbor is drawn again and again while a climb
+     * plateaus. Those are answered from here instead of solving the board again. Boards of
+     * one size only; make one per search.
      */
-    private static int evaluateBoard(String boardString, int width, int height) {
-        // Set the board and solve it
-        Solver.setBoard(width, height, boardString);
-        Solver.resetWords();
+    private static final class ScoreCache extends LinkedHashMap<String, Integer> {
+        private static final int CAPACITY = 1024;
 
-        // Run solver on all positions
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                int[][] spaces = new int[width][height];
-                Solver.checkWords(x, y, "", spaces, new ArrayList<Integer>());
+        ScoreCache() {
+            super(CAPACITY * 2, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > CAPACITY;
+        }
+
+        int score(String board, int width, int height) {
+            // Every optimization loop scores each candidate here, so this is where a job counts
+            // it and is cancelled, whether or not the board has to be solved
+            GenerationJob.candidate();
+
+            Integer score = get(board);
+            if (score == null) {
+                score = evaluateBoard(board, width, height);
+                put(board, score);
             }
+
+            GenerationJob.scored(score);
+            return score;
         }
+    }
 
-        // Return the actual score
-        return Solver.calculatePoints();
+    /**
+     * Evaluates a board by actually solving it and getting the real score.
+     * This is the most accurate evaluation method.
+     */
+    private static int evaluateBoard(String boardString, int width, int height) {
+        // Solve the board and return the actual score
+        return solvers.get().score(width, height, boardString);
     }
 
     /**
@@ -402,8 +614,8 @@ public class ImprovedBoardGenerator {
      * Expected: ~100,000-150,000 points
      * Speed: <100ms (nearly instant)
      */
-    public static String generateFastLevel3(int width, int height) {
-        return generateSmartInitialBoard(width, height);
+    static String generateFastLevel3(int width, int height, SplittableRandom random) {
+        return generateSmartInitialBoard(width, height, random);
     }
 
     /**
@@ -413,14 +625,15 @@ public class ImprovedBoardGenerator {
      * Expected: ~150,000-250,000 points
      * Speed: ~100-300ms
      */
-    public static String generateFastLevel2_5(int width, int height) {
-        String board = generateSmartInitialBoard(width, height);
-        int score = evaluateBoard(board, width, height);
+    static String generateFastLevel2_5(int width, int height, SplittableRandom random) {
+        ScoreCache scores = new ScoreCache();
+        String board = generateSmartInitialBoard(width, height, random);
+        int score = scores.score(board, width, height);
 
         // Only 3 quick iterations
         for (int i = 0; i < 3; i++) {
-            String neighbor = generateNeighbor(board, width, height);
-            int neighborScore = evaluateBoard(neighbor, width, height);
+            String neighbor = generateNeighbor(board, width, height, random);
+            int neighborScore = scores.score(neighbor, width, height);
 
             if (neighborScore > score) {
                 board = neighbor;
@@ -438,14 +651,15 @@ public class ImprovedBoardGenerator {
      * Expected: ~250,000-400,000 points
      * Speed: ~300ms-1s
      */
-    public static String generateFastLevel2(int width, int height) {
-        String board = generateSmartInitialBoard(width, height);
-        int score = evaluateBoard(board, width, height);
+    static String generateFastLevel2(int width, int height, SplittableRandom random) {
+        ScoreCache scores = new ScoreCache();
+        String board = generateSmartInitialBoard(width, height, random);
+        int score = scores.score(board, width, height);
 
         // Only 10 quick iterations
         for (int i = 0; i < 10; i++) {
-            String neighbor = generateNeighbor(board, width, height);
-            int neighborScore = evaluateBoard(neighbor, width, height);
+            String neighbor = generateNeighbor(board, width, height, random);
+            int neighborScore = scores.score(neighbor, width, height);
 
             if (neighborScore > score) {
                 board = neighbor;
@@ -463,9 +677,10 @@ public class ImprovedBoardGenerator {
      * Expected: ~400,000-550,000 points
      * Speed: ~1-2s
      */
-    public static String generateFastLevel1_5(int width, int height) {
-        String board = generateSmartInitialBoard(width, height);
-        int score = evaluateBoard(board, width, height);
+    static String generateFastLevel1_5(int width, int height, SplittableRandom random) {
+        ScoreCache scores = new ScoreCache();
+        String board = generateSmartInitialBoard(width, height, random);
+        int score = scores.score(board, width, height);
 
         int iterationsWithoutImprovement = 0;
         int maxIterations = 25;
@@ -473,8 +688,8 @@ public class ImprovedBoardGenerator {
 
         // 25 iteration limit OR 15 without improvement
         while (iteration < maxIterations && iterationsWithoutImprovement < 15) {
-            String neighbor = generateNeighbor(board, width, height);
-            int neighborScore = evaluateBoard(neighbor, width, height);
+            String neighbor = generateNeighbor(board, width, height, random);
+            int neighborScore = scores.score(neighbor, width, height);
 
             if (neighborScore > score) {
                 board = neighbor;
@@ -496,9 +711,10 @@ public class ImprovedBoardGenerator {
      * Expected: ~550,000-700,000 points
      * Speed: ~2-4s
      */
-    public static String generateFastLevel1(int width, int height) {
-        String board = generateSmartInitialBoard(width, height);
-        int score = evaluateBoard(board, width, height);
+    static String generateFastLevel1(int width, int height, SplittableRandom random) {
+        ScoreCache scores = new ScoreCache();
+        String board = generateSmartInitialBoard(width, height, random);
+        int score = scores.score(board, width, height);
 
         int iterationsWithoutImprovement = 0;
         int maxIterations = 50;
@@ -506,8 +722,8 @@ public class ImprovedBoardGenerator {
 
         // 50 iteration limit OR 20 without improvement
         while (iteration < maxIterations && iterationsWithoutImprovement < 20) {
-            String neighbor = generateNeighbor(board, width, height);
-            int neighborScore = evaluateBoard(neighbor, width, height);
+            String neighbor = generateNeighbor(board, width, height, random);
+            int neighborScore = scores.score(neighbor, width, height);
 
             if (neighborScore > score) {
                 board = neighbor;
@@ -534,10 +750,11 @@ public class ImprovedBoardGenerator {
      * @param width board width
      * @param height board height
      * @param iterations number of optimization iterations
+     * @param random source of randomness, not shared with other threads
      * @return highly optimized board string
      */
-    public static String generateOptimizedBoardAdvanced(int width, int height, int iterations) {
-        return generateBoardSimulatedAnnealing(width, height, iterations);
+    static String generateOptimizedBoardAdvanced(int width, int height, int iterations, SplittableRandom random) {
+        return generateBoardSimulatedAnnealing(width, height, iterations, random);
     }
 
     /**
@@ -548,10 +765,11 @@ public class ImprovedBoardGenerator {
      *
      * @param width board width
      * @param height board height
+     * @param random source of randomness, not shared with other threads
      * @return optimized board string
      */
-    public static String generateOptimizedBoard(int width, int height) {
-        return generateBoardHillClimbing(width, height, 1);
+    static String generateOptimizedBoard(int width, int height, SplittableRandom random) {
+        return generateBoardHillClimbing(width, height, 1, random);
     }
 
     /**
@@ -562,10 +780,11 @@ public class ImprovedBoardGenerator {
      *
      * @param width board width
      * @param height board height
+     * @param random source of randomness, not shared with other threads
      * @return optimized board string
      */
-    public static String generateHybridBoard(int width, int height) {
-        return generateBoardHybrid(width, height);
+    static String generateHybridBoard(int width, int height, SplittableRandom random) {
+        return generateBoardHybrid(width, height, random);
     }
 
     /**
@@ -576,10 +795,11 @@ public class ImprovedBoardGenerator {
      *
      * @param width board width
      * @param height board height
+     * @param random source of randomness, not shared with other threads
      * @return optimized board string
      */
-    public static String generateClusteredBoard(int width, int height) {
-        return generateBoardHillClimbing(width, height, 2);
+    static String generateClusteredBoard(int width, int height, SplittableRandom random) {
+        return generateBoardHillClimbing(width, height, 2, random);
     }
 
     // ==================== Additional Named Methods ====================
@@ -589,10 +809,10 @@ public class ImprovedBoardGenerator {
      * Uses hill climbing with 5 restarts - proven to find globally optimal boards.
      *
      * Expected performance: 700,000-850,000+ points
-     * Speed: 5-15 seconds depending on board size
+     * Speed: 5-15 seconds on one core, the 5 restarts run in parallel on multi-core devices
      */
-    public static String generateOptimalBoard(int width, int height) {
-        return generateBoardHillClimbing(width, height, 5);
+    static String generateOptimalBoard(int width, int height, SplittableRandom random) {
+        return generateBoardHillClimbing(width, height, 5, random);
     }
 
     /**
@@ -602,8 +822,8 @@ public class ImprovedBoardGenerator {
      * Expected performance: 550,000-700,000 points
      * Speed: 2-4 seconds
      */
-    public static String generateFastOptimalBoard(int width, int height) {
-        return generateBoardHillClimbing(width, height, 1);
+    static String generateFastOptimalBoard(int width, int height, SplittableRandom random) {
+        return generateBoardHillClimbing(width, height, 1, random);
     }
 
     /**
@@ -613,7 +833,7 @@ public class ImprovedBoardGenerator {
      * Expected performance: 850,000-1,000,000+ points
      * Speed: 10-20 seconds
      */
-    public static String generateBestBoard(int width, int height) {
-        return generateBoardHybrid(width, height);
+    static String generateBestBoard(int width, int height, SplittableRandom random) {
+        return generateBoardHybrid(width, height, random);
     }
 }
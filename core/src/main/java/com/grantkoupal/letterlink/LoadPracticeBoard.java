@@ -10,6 +10,7 @@ public class LoadPracticeBoard extends Page {
 
     // ===== Constants =====
     private static final float POLL_INTERVAL_SECONDS = 0.25f;
+    private static final int POWER = 4; // pooled and generated boards alike
 
     // ===== UI =====
     private LoadingAnimation spinner;
@@ -17,11 +18,28 @@ public class LoadPracticeBoard extends Page {
     // ===== Loading state =====
     private volatile boolean loadingComplete = false;
     private Thread loadingThread;
+    private GenerationJob job;
+
+    /**
+     * Has the BoardPool keep practice boards ready for the selected board size.
+     */
+    public static void requestBoards() {
+        BoardPool.request(POWER, SessionData.currentBoardWidth, SessionData.currentBoardHeight);
+    }
 
     @Override
     public void initialize() {
         createSpinner();
-        startLoadingThread();
+
+        // Start right away with a pooled board, generating one only if none is ready yet
+        SolveResult board = BoardPool.poll(POWER, SessionData.currentBoardWidth, SessionData.currentBoardHeight);
+        if (board != null) {
+            Solver.setCurrentBoard(board);
+            loadingComplete = true;
+        } else {
+            startLoadingThread();
+        }
+
         startCompletionPollTimer();
     }
 
@@ -34,17 +52,27 @@ public class LoadPracticeBoard extends Page {
     }
 
     private void startLoadingThread() {
+        // Same power as the pool, so a missed pool doesn't change the board's strength
+        job = new GenerationJob(POWER, SessionData.currentBoardWidth, SessionData.currentBoardHeight);
+        spinner.setJob(job);
+
         loadingThread = (Thread) new Thread() {
             @Override
             public void run() {
                 try {
                     // This is where the heavy loading happens
-                    ImprovedBoardGenerator.generateBoard(4, SessionData.currentBoardWidth, SessionData.currentBoardHeight);
+                    job.run();
+                    if (job.getResult() == null || job.isCancelled()) return; // left the page
+
+                    Solver.setCurrentBoard(job.getResult().getBoard());
 
                     // Mark as complete
                     loadingComplete = true;
                 } catch (Exception e) {
                     e.printStackTrace();
+                } finally {
+                    // Let the pool refill now that this board no longer needs the CPU
+                    BoardPool.resume();
                 }
             }
         };
@@ -85,7 +113,10 @@ public class LoadPracticeBoard extends Page {
             spinner.dispose();
         }
 
-        // Make sure loading thread is finished
+        // Stop the generation and make sure loading thread is finished
+        if (job != null) {
+            job.cancel();
+        }
         if (loadingThread != null && loadingThread.isAlive()) {
             loadingThread.interrupt();
             try {
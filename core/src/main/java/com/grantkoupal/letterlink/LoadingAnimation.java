@@ -28,6 +28,11 @@ public class LoadingAnimation extends Agent {
     private float time = 0f;
     private static final int BAR_COUNT = 7;
 
+    // Progress of the generation being waited on, null to only show the bars
+    private GenerationJob job;
+    private float progressWidth = 160f;
+    private float progressOffset = 110f;
+
     // Colors - gradient from cyan to purple
     private Color startColor = new Color(0.2f, 0.8f, 1.0f, 1f);
     private Color endColor = new Color(0.8f, 0.2f, 1.0f, 1f);
@@ -65,6 +70,10 @@ public class LoadingAnimation extends Agent {
             drawBar(sr, i, startX + i * barSpacing * scale);
         }
 
+        if (job != null) {
+            drawProgress(sr);
+        }
+
         sr.end();
     }
 
@@ -109,6 +118,30 @@ public class LoadingAnimation extends Agent {
         sr.circle(barX, y - halfHeight, barWidth * scale, 12);
     }
 
+    /**
+     * Draws a track under the bars that fills as the job uses up its budget.
+     */
+    private void drawProgress(ShapeRenderer sr) {
+        float progress = job.getProgress();
+        float trackWidth = progressWidth * scale;
+        float trackHeight = barWidth / 2f * scale;
+        float trackX = x - trackWidth / 2f;
+        float trackY = y - progressOffset * scale;
+
+        sr.setColor(startColor.r, startColor.g, startColor.b, 0.2f);
+        sr.rect(trackX, trackY, trackWidth, trackHeight);
+
+        sr.setColor(endColor);
+        sr.rect(trackX, trackY, trackWidth * progress, trackHeight);
+    }
+
+    /**
+     * Shows the progress of a board generation under the bars.
+     */
+    public void setJob(GenerationJob job) {
+        this.job = job;
+    }
+
     public void setPosition(float x, float y) {
         this.x = x;
         this.y = y;
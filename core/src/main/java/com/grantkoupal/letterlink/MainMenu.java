@@ -105,6 +105,8 @@ public class MainMenu extends Page {
         d = new Display();
         add(d);
         add(gamemodeSelection);
+
+        LoadPracticeBoard.requestBoards();
     }
 
     @Override
@@ -219,6 +221,7 @@ public class MainMenu extends Page {
                     case 9 : SessionData.currentBoardWidth = 5; break;
                     default : SessionData.currentBoardHeight = 4; SessionData.currentBoardWidth = 4;
                 }
+                LoadPracticeBoard.requestBoards();
             }
 
             if(click){
@@ -11,9 +11,6 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.grantkoupal.letterlink.backend.data.SessionData;
 import com.grantkoupal.letterlink.quantum.core.*;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class MenuDisplay extends Agent {
 
     public enum MODE {CASUAL, COMPETITIVE, PRACTICE};
@@ -136,8 +133,10 @@ public class MenuDisplay extends Agent {
 
             if ((mode == MODE.PRACTICE || Board.getHintScore() > 9) && distance(mouseX, mouseY, hintX, hintY) < 90f * scale) {
                 if (!Board.menuOpen) {
-                    String word = getRandomWordFromBoard(1);
-                    Board.activateHint(word);
+                    String word = getRandomWordFromBoard();
+                    if (word != null) {
+                        Board.activateHint(word);
+                    }
                 }
             }
 
@@ -222,22 +221,24 @@ public class MenuDisplay extends Agent {
         return (float) Math.sqrt(Math.pow(x1 - x2, 2) + Math.pow(y1 - y2, 2));
     }
 
-    private String getRandomWordFromBoard(int range) {
-        float rank = Board.getCurrentRank();
-        List<String> validWords = new ArrayList<>();
-
-        for (int i = 0; i < Board.getWordsLeft().size(); i++) {
-            String w = Board.getWordsLeft().get(i);
-            if (WordDifficultyRanker.wordDifficulty(w) < Math.max(rank, 20) + range) {
-                validWords.add(w);
-            }
+    /**
+     * Picks a random unfound word easier than the player's rank.
+     * If there is none, the difficulty limit widens in steps of 2 until it passes the easiest unfound word.
+     * @return Word, or null if every word has been found
+     */
+    private String getRandomWordFromBoard() {
+        WordRegistry registry = Board.getRegistry();
+        if (registry.getRemainingCount() == 0) {
+            return null;
         }
 
-        if (validWords.isEmpty()) {
-            return getRandomWordFromBoard(range + 2);
+        double limit = Math.max(Board.getCurrentRank(), 20) + 1;
+        double easiest = registry.getEasiestRemainingDifficulty();
+        if (easiest >= limit) {
+            limit += 2 * (Math.floor((easiest - limit) / 2) + 1);
         }
 
-        return validWords.get((int) (Math.random() * validWords.size()));
+        return registry.getRandomRemainingWord(limit);
     }
 
     private String convertNumToTime(long millis) {
@@ -0,0 +1,98 @@
+package com.grantkoupal.letterlink;
+
+import java.util.Arrays;
+
+/**
+ * Flat storage for word paths.
+ * The cell indices (x * height + y) of every path are packed one byte each into a single array,
+ * and offsets[i] marks where path i starts, so storing a path allocates nothing once the
+ * arrays have grown and reading one never does.
+ */
+final class PathArena {
+
+    private byte[] cells;
+    private int[] offsets;
+    private int size = 0;
+
+    PathArena() {
+        this(16, 256);
+    }
+
+    private PathArena(int paths, int cells) {
+        this.cells = new byte[Math.max(cells, 1)];
+        this.offsets = new int[paths + 1];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Appends a path.
+     *
+     * @param path   Cell indices of the path
+     * @param length Number of cells to take from the start of path
+     */
+    void add(int[] path, int length) {
+        int start = reserve(length);
+        for (int i = 0; i < length; i++) {
+            cells[start + i] = (byte) path[i];
+        }
+    }
+
+    /**
+     * Appends a copy of another arena's path.
+     */
+    void add(PathArena other, int index) {
+        int length = other.length(index);
+        int start = reserve(length);
+        System.arraycopy(other.cells, other.offsets[index], cells, start, length);
+    }
+
+    /**
+     * Makes room for a path of the given length and returns where its cells start.
+     */
+    private int reserve(int length) {
+        if (size + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+
+        int start = offsets[size];
+        if (start + length > cells.length) {
+            cells = Arrays.copyOf(cells, Math.max(cells.length * 2, start + length));
+        }
+
+        offsets[++size] = start + length;
+        return start;
+    }
+
+    /**
+     * Copies the arena into arrays trimmed to its contents.
+     */
+    PathArena copy() {
+        int used = offsets[size];
+        PathArena copy = new PathArena(size, used);
+        System.arraycopy(cells, 0, copy.cells, 0, used);
+        System.arraycopy(offsets, 0, copy.offsets, 0, size + 1);
+        copy.size = size;
+        return copy;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of cells in a path.
+     */
+    int length(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Gets the cell index at a step of a path.
+     */
+    int cell(int index, int step) {
+        return cells[offsets[index] + step];
+    }
+}
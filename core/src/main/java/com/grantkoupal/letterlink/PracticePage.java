@@ -64,6 +64,7 @@ public class PracticePage extends Page {
      */
     private void computePredictedScore() {
         List<String> words = Board.getWordsInBoard();
+        WordRegistry registry = Board.getRegistry();
 
         int total;
         int x = words.size();
@@ -87,7 +88,7 @@ public class PracticePage extends Page {
                 String word = words.get(i);
 
                 // Only count easier words in predicted score
-                if (WordDifficultyRanker.wordDifficulty(word) < 80) {
+                if (registry.getDifficulty(i) < 80) {
                     count++;
                     predictedScore += Solver.getWordValue(word);
                 }
@@ -103,7 +104,7 @@ public class PracticePage extends Page {
 
     private void createUIComponents() {
         // Left side: all possible words (hidden until found)
-        hintTable = new HintTable(Board.getWordsInBoard(), Board.getWordsFound());
+        hintTable = new HintTable(Board.getRegistry());
         add(hintTable);
 
         // Right side: words the player has found
@@ -0,0 +1,71 @@
+package com.grantkoupal.letterlink;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Board words sorted by difficulty with the running total of their points.
+ *
+ * The rank for a score is the difficulty at which the board's easier words add up to that
+ * many points. Searching for it step by step re-counts every word per step; with the totals
+ * precomputed it is the difficulty of the first word where the running total reaches the
+ * score, and a score that only grows is followed by stepping that position forward.
+ */
+final class RankTable {
+
+    // ===== Constants =====
+    static final float MIN_RANK = 0f;
+    static final float MAX_RANK = 100f;
+
+    private final float[] difficulties; // easiest first
+    private final int[] cumulativePoints; // cumulativePoints[i] = points of the i + 1 easiest words
+
+    RankTable(final SolveResult board) {
+        int wordCount = board.getNumWords();
+
+        Integer[] order = new Integer[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Float.compare(board.getWordDifficulty(a), board.getWordDifficulty(b));
+            }
+        });
+
+        this.difficulties = new float[wordCount];
+        this.cumulativePoints = new int[wordCount];
+        int total = 0;
+        for (int i = 0; i < wordCount; i++) {
+            total += Solver.getWordValue(board.getWords().get(order[i]));
+            difficulties[i] = board.getWordDifficulty(order[i]);
+            cumulativePoints[i] = total;
+        }
+    }
+
+    /**
+     * Moves a position forward to where the running total reaches a higher score.
+     * Lets a score that only grows be followed without searching again.
+     *
+     * @param position Position for a lower (or the same) score
+     * @param points   New score
+     * @return Position of the first word where the running total reaches the score, or the word count if none does
+     */
+    int advance(int position, int points) {
+        while (position < cumulativePoints.length && cumulativePoints[position] < points) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Gets the rank at a position found by advance().
+     */
+    float rankAt(int position, int points) {
+        if (points <= 0) {
+            return MIN_RANK;
+        }
+        return position == cumulativePoints.length ? MAX_RANK : difficulties[position];
+    }
+}
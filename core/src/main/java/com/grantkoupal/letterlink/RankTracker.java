@@ -0,0 +1,44 @@
+package com.grantkoupal.letterlink;
+
+/**
+ * Keeps the player's rank up to date as words are found.
+ *
+ * The score only ever grows, so the position in the board's RankTable where the running
+ * point total reaches it only moves forward. Each found word adds its points and steps that
+ * position along, which over a whole game walks the table at most once.
+ *
+ * Used on the render thread only.
+ */
+final class RankTracker {
+
+    // ===== Constants =====
+    private static final double RANK_CURVE = 1.25;
+
+    private RankTable table;
+    private int points = 0;
+    private int position = 0;
+    private float rank = 0;
+
+    /**
+     * Starts tracking a new board with no points.
+     */
+    void reset(SolveResult board) {
+        table = board.getRankTable();
+        points = 0;
+        position = 0;
+        rank = 0;
+    }
+
+    /**
+     * Adds the points of a found word and moves the rank to match.
+     */
+    void addPoints(int wordPoints) {
+        points += wordPoints;
+        position = table.advance(position, points);
+        rank = (float) Math.pow(table.rankAt(position, points), RANK_CURVE);
+    }
+
+    float getRank() {
+        return rank;
+    }
+}
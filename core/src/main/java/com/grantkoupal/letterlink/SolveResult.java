@@ -0,0 +1,241 @@
+package com.grantkoupal.letterlink;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable result of solving one board: the letters, every word found with its path,
+ * the word length histogram and the total score.
+ * Safe to share between the UI thread and background threads.
+ */
+public final class SolveResult {
+
+    // ===== Dictionary =====
+    private final WordDictionary dictionary;
+
+    // ===== Board =====
+    private final int width;
+    private final int height;
+    private final String letters;
+
+    // ===== Words =====
+    private final List<String> words;
+    private final int[] wordNodes;
+    private final PathArena paths;
+    private final IntIntMap nodeIndices;
+    private final int[] lengthCounts;
+    private final int score;
+
+    // ===== Rank =====
+    private volatile RankTable rankTable;
+
+    /**
+     * @param dictionary   Dictionary the board was solved with
+     * @param width        Board width
+     * @param height       Board height
+     * @param letters      Board letters indexed by x * height + y
+     * @param words        Words found, in search order
+     * @param wordNodes    Trie node of each word
+     * @param paths        Cell path of each word (copied)
+     * @param score        Total points of the words, tallied by the search
+     * @param lengthCounts Number of words of each length, tallied by the search (copied)
+     */
+    SolveResult(WordDictionary dictionary, int width, int height, String letters, List<String> words,
+                IntArray wordNodes, PathArena paths, int score, int[] lengthCounts) {
+        this.dictionary = dictionary;
+        this.width = width;
+        this.height = height;
+        this.letters = letters;
+        this.words = Collections.unmodifiableList(new ArrayList<>(words));
+        this.wordNodes = wordNodes.toArray();
+        this.paths = paths.copy();
+        this.nodeIndices = new IntIntMap(this.wordNodes.length);
+        this.score = score;
+        this.lengthCounts = Arrays.copyOf(lengthCounts, lengthCounts.length);
+
+        for (int i = 0; i < this.wordNodes.length; i++) {
+            nodeIndices.put(this.wordNodes[i], i);
+        }
+    }
+
+    /**
+     * Returns a copy with the words sorted by length (longest first), then alphabetically.
+     * Paths are reordered with their words to maintain index correspondence.
+     */
+    public SolveResult organize() {
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            indices.add(i);
+        }
+
+        Collections.sort(indices, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer i1, Integer i2) {
+                String s1 = words.get(i1);
+                String s2 = words.get(i2);
+
+                int lengthCompare = Integer.compare(s2.length(), s1.length());
+                if (lengthCompare == 0) {
+                    return s1.compareToIgnoreCase(s2);
+                }
+                return lengthCompare;
+            }
+        });
+
+        List<String> sortedWords = new ArrayList<>(words.size());
+        IntArray sortedNodes = new IntArray(wordNodes.length);
+        PathArena sortedPaths = new PathArena();
+
+        for (int idx : indices) {
+            sortedWords.add(words.get(idx));
+            sortedNodes.add(wordNodes[idx]);
+            sortedPaths.add(paths, idx);
+        }
+
+        return new SolveResult(dictionary, width, height, letters, sortedWords, sortedNodes, sortedPaths,
+            score, lengthCounts);
+    }
+
+    // ======================================================================
+    // Rank
+    // ======================================================================
+
+    /**
+     * Gets the words sorted by difficulty with their running point totals, built on first use.
+     */
+    RankTable getRankTable() {
+        RankTable table = rankTable;
+        if (table == null) {
+            // Building it twice on a race is harmless, both copies are identical
+            table = new RankTable(this);
+            rankTable = table;
+        }
+        return table;
+    }
+
+    // ======================================================================
+    // Getters
+    // ======================================================================
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public String getLetters() {
+        return letters;
+    }
+
+    public char getLetter(int x, int y) {
+        return letters.charAt(x * height + y);
+    }
+
+    /**
+     * Builds the board as columns of letters, indexed [x][y].
+     */
+    public List<List<Character>> getBoard() {
+        List<List<Character>> board = new ArrayList<>();
+        for (int x = 0; x < width; x++) {
+            List<Character> column = new ArrayList<>();
+            for (int y = 0; y < height; y++) {
+                column.add(getLetter(x, y));
+            }
+            board.add(Collections.unmodifiableList(column));
+        }
+        return Collections.unmodifiableList(board);
+    }
+
+    public List<String> getWords() {
+        return words;
+    }
+
+    public int getNumWords() {
+        return words.size();
+    }
+
+    /**
+     * Finds a word on the board by walking the dictionary trie and looking up the node it reaches.
+     * The index map is only read after construction, so this is safe from any thread.
+     *
+     * @return Index of the word in getWords(), or -1 if the board doesn't contain it
+     */
+    public int indexOf(String word) {
+        return indexOfNode(dictionary.find(word));
+    }
+
+    /**
+     * Finds a word on the board from its trie node, for callers that already walked the trie.
+     *
+     * @param node Node in getDictionary(), or WordDictionary.NONE
+     * @return Index of the word in getWords(), or -1 if the node isn't a word on this board
+     */
+    public int indexOfNode(int node) {
+        return nodeIndices.get(node, -1);
+    }
+
+    /**
+     * Gets the dictionary the board was solved with; its node ids are the ones indexOfNode() expects.
+     */
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Gets a word's difficulty from the dictionary's precomputed table.
+     *
+     * @param index Index of the word in getWords()
+     * @return Difficulty from 0 (easiest) to 100 (hardest)
+     */
+    public float getWordDifficulty(int index) {
+        return dictionary.getDifficulty(wordNodes[index]);
+    }
+
+    /**
+     * Gets the number of cells in a word's path.
+     *
+     * @param index Index of the word in getWords()
+     */
+    public int getWordPathLength(int index) {
+        return paths.length(index);
+    }
+
+    /**
+     * Gets the x coordinate of one step of a word's path.
+     *
+     * @param index Index of the word in getWords()
+     * @param step  Position in the path, 0 is the first letter
+     */
+    public int getWordPathX(int index, int step) {
+        return paths.cell(index, step) / height;
+    }
+
+    /**
+     * Gets the y coordinate of one step of a word's path.
+     *
+     * @param index Index of the word in getWords()
+     * @param step  Position in the path, 0 is the first letter
+     */
+    public int getWordPathY(int index, int step) {
+        return paths.cell(index, step) % height;
+    }
+
+    /**
+     * @return Number of words of each length, indexed by length
+     */
+    public int[] getLengthCounts() {
+        return Arrays.copyOf(lengthCounts, lengthCounts.length);
+    }
+
+    public int getScore() {
+        return score;
+    }
+}
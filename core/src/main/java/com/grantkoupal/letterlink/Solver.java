@@ -1,22 +1,32 @@
 package com.grantkoupal.letterlink;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntSet;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Handles word searching, validation, and scoring for a Boggle-style letter board.
- * Uses a 4D dictionary structure for fast prefix/word lookup and recursive path finding.
+ * Uses an array-backed trie for O(1) prefix/word lookup and recursive path finding.
+ *
+ * A Solver holds only reusable search buffers and is not thread-safe; give each thread
+ * its own instance. The dictionary is shared and immutable, and every solve returns an
+ * immutable SolveResult.
  */
 public class Solver {
 
     // ===== Constants =====
     private static final int ALPHABET_SIZE = 26;
     private static final int ASCII_OFFSET = 97; // 'a'
-    private static final String DICTIONARY_FILE = "Words.txt";
+    private static final int MAX_CELLS = 64; // visited cells are tracked in a long bitmask
 
-    // ===== Board value (external usage) =====
-    private static int boardValue = 0;
+    /**
+     * Boards with at least this many cells (5x5) are solved across the ForkJoinPool by solveBoard().
+     * Smaller boards finish faster on one thread than it takes to fork the search.
+     */
+    public static final int PARALLEL_MIN_CELLS = 25;
 
     /**
      * Letter frequency weights for random board generation.
@@ -52,370 +62,410 @@ public class Solver {
         7    // z
     };
 
-    // ===== Dictionary Structure =====
-
     /**
-     * 4D word storage indexed by first three letters [a-z][a-z][a-z].
-     * Provides O(1) bucket lookup for fast prefix/word validation during search.
+     * Point value of a word indexed by its length.
+     * Words shorter than 3 or longer than 25 letters are worth nothing.
      */
-    private static final List<List<List<List<String>>>> dictionary = new ArrayList<>();
-    private static final List<List<List<List<String>>>> commonDictionary = new ArrayList<>();
+    private static final int[] WORD_VALUES = {
+        0, 0, 0,
+        100,   // 3
+        400,   // 4
+        800,   // 5
+        1400,  // 6
+        1800,  // 7
+        2200,  // 8
+        2600,  // 9
+        3000,  // 10
+        3600,  // 11
+        4000,  // 12
+        4600,  // 13
+        5000,  // 14
+        5600,  // 15
+        6000,  // 16
+        6600,  // 17
+        7000,  // 18
+        7600,  // 19
+        8000,  // 20
+        8600,  // 21
+        9000,  // 22
+        9600,  // 23
+        10000, // 24
+        10600  // 25
+    };
 
-    // ===== Board State =====
-    private static final List<List<Character>> board = new ArrayList<>();
-    private static int boardWidth = 0;
-    private static int boardHeight = 0;
+    /**
+     * Number of word lengths tracked in the length histogram (0 to 25 letters).
+     */
+    static final int HISTOGRAM_SIZE = WORD_VALUES.length;
 
-    // ===== Search Results =====
-    private static final List<String> treasureWords = new ArrayList<>();
-    private static final List<List<Integer>> wordPaths = new ArrayList<>();
-    private static final int[] wordLengthCounts = new int[26];
-    private static int totalPoints = 0;
+    // ===== Neighbor Tables =====
 
-    // ===== Rank calc state =====
-    private static int points;
+    /**
+     * Neighbor cell indices for every cell, cached per board size.
+     * Neighbors are listed in the order the search explores them.
+     */
+    private static final Map<Integer, int[][]> neighborTables = new HashMap<>();
 
-    // ======================================================================
-    // Board Configuration
-    // ======================================================================
+    // ===== Current Board =====
 
     /**
-     * Sets the board layout from a string of letters.
-     * Validates that the board is rectangular.
-     *
-     * @param width   Board width
-     * @param height  Board height
-     * @param letters String of letters (length must equal width * height)
-     * @throws IllegalArgumentException if board is not rectangular
+     * The solved board the next game will be played on.
+     * Published by board generation / matchmaking and read by Board when a game starts.
      */
-    public static void setBoard(int width, int height, String letters) {
-        boardWidth = width;
-        boardHeight = height;
+    private static volatile SolveResult currentBoard;
 
-        // Parse into a new 2D structure first
-        List<List<Character>> newBoard = new ArrayList<>();
-        for (int x = 0; x < width; x++) {
-            newBoard.add(new ArrayList<>());
-            for (int y = 0; y < height; y++) {
-                newBoard.get(x).add(letters.charAt(x * height + y)); // ← height, not width
-            }
+    /**
+     * Solver used by each ForkJoinPool worker for parallel solves.
+     */
+    private static final ThreadLocal<Solver> workerSolvers = new ThreadLocal<Solver>() {
+        @Override
+        protected Solver initialValue() {
+            return new Solver();
         }
+    };
 
-        validateBoardShape(newBoard);
+    // ===== Dictionary =====
+    private final WordDictionary dictionary;
 
-        // Copy into internal board
-        board.clear();
-        for (int x = 0; x < width; x++) {
-            board.add(new ArrayList<>());
-            for (int y = 0; y < height; y++) {
-                board.get(x).add(newBoard.get(x).get(y));
-            }
-        }
-    }
+    /**
+     * Per-solve duplicate tracking indexed by trie node.
+     * A word has been found in the current solve when its entry equals searchEpoch,
+     * so starting a new solve is a single increment and the dictionary is never modified.
+     */
+    private final int[] seenEpochs;
+    private int searchEpoch = 0;
+
+    // ===== Search Buffers =====
+    private final char[] wordBuffer = new char[MAX_CELLS];
+    private final int[] pathStack = new int[MAX_CELLS];
+    private char[] cells = new char[0];
+    private int[][] neighbors;
+    private int boardHeight;
+
+    // ===== Search Results =====
+    private boolean recordWords;
+    private int runningScore;
+    private final int[] lengthCounts = new int[HISTOGRAM_SIZE];
+    private final List<String> treasureWords = new ArrayList<>();
+    private final IntArray wordNodes = new IntArray();
+    private final PathArena wordPaths = new PathArena();
 
     /**
-     * Validates that all rows have the same width.
+     * Creates a solver using the shared default dictionary.
      */
-    private static void validateBoardShape(List<List<Character>> boardToValidate) {
-        int expectedWidth = boardToValidate.get(0).size();
-        for (List<Character> row : boardToValidate) {
-            if (row.size() != expectedWidth) {
-                throw new IllegalArgumentException("Board must be rectangular");
-            }
-        }
+    public Solver() {
+        this(WordDictionary.getDefault());
+    }
+
+    public Solver(WordDictionary dictionary) {
+        this.dictionary = dictionary;
+        this.seenEpochs = new int[dictionary.getNodeCount()];
     }
 
     // ======================================================================
-    // Dictionary Management
+    // Word Search
     // ======================================================================
 
     /**
-     * Initializes or resets the dictionary and clears previous search results.
-     * Loads words from the dictionary file and organizes them for fast lookup.
+     * Finds every word on a board.
+     * Reuses one letter buffer and path stack and tracks visited cells in a bitmask,
+     * so nothing is allocated except the words that are found.
+     *
+     * @param width   Board width
+     * @param height  Board height
+     * @param letters String of letters indexed by x * height + y (length must be at least width * height)
+     * @return Words, paths and score of the board
+     * @throws IllegalArgumentException if the letters don't fill the board or it has more than 64 cells
      */
-    public static void resetWords() {
-        initializeDictionary();
-        loadDictionaryFromFile();
+    public SolveResult solve(int width, int height, String letters) {
+        setBoard(width, height, letters);
         clearSearchResults();
+        recordWords = true;
+        searchFrom(0, cells.length);
+
+        return new SolveResult(dictionary, width, height, letters, treasureWords, wordNodes, wordPaths,
+            runningScore, lengthCounts);
     }
 
     /**
-     * Initializes the 4D dictionary structure if not already created.
+     * Scores a board without keeping its words.
+     * Runs the same search as solve() but only adds up word values, so nothing is allocated.
+     * Used by the generators, which score thousands of candidate boards and keep only the best.
+     *
+     * @return Same value as solve(width, height, letters).getScore()
+     * @see #solve(int, int, String)
      */
-    private static void initializeDictionary() {
-        if (dictionary.isEmpty()) {
-            for (int x = 0; x < ALPHABET_SIZE; x++) {
-                dictionary.add(new ArrayList<>());
-                for (int y = 0; y < ALPHABET_SIZE; y++) {
-                    dictionary.get(x).add(new ArrayList<>());
-                    for (int z = 0; z < ALPHABET_SIZE; z++) {
-                        dictionary.get(x).get(y).add(new ArrayList<>());
-                    }
-                }
-            }
-            for (int x = 0; x < ALPHABET_SIZE; x++) {
-                commonDictionary.add(new ArrayList<>());
-                for (int y = 0; y < ALPHABET_SIZE; y++) {
-                    commonDictionary.get(x).add(new ArrayList<>());
-                    for (int z = 0; z < ALPHABET_SIZE; z++) {
-                        commonDictionary.get(x).get(y).add(new ArrayList<>());
-                    }
-                }
-            }
-            return;
-        }
+    public int score(int width, int height, String letters) {
+        setBoard(width, height, letters);
+        clearSearchResults();
+        recordWords = false;
+        searchFrom(0, cells.length);
 
-        clearDictionary();
+        return runningScore;
     }
 
     /**
-     * Clears all existing dictionary entries.
+     * Solves a board, splitting the start cells across the ForkJoinPool when it has
+     * at least PARALLEL_MIN_CELLS cells and more than one core is available.
+     *
+     * @see #solve(int, int, String)
+     * @see #solveParallel(int, int, String)
      */
-    private static void clearDictionary() {
-        for (int x = 0; x < ALPHABET_SIZE; x++) {
-            for (int y = 0; y < ALPHABET_SIZE; y++) {
-                for (int z = 0; z < ALPHABET_SIZE; z++) {
-                    dictionary.get(x).get(y).get(z).clear();
-                }
-            }
+    public static SolveResult solveBoard(int width, int height, String letters) {
+        if (width * height >= PARALLEL_MIN_CELLS && Runtime.getRuntime().availableProcessors() > 1) {
+            return solveParallel(width, height, letters);
         }
+        return workerSolvers.get().solve(width, height, letters);
     }
 
     /**
-     * Loads dictionary words from file and indexes them by first 3 letters.
-     * Only words with 3+ letters are stored.
+     * Finds every word on a board, searching each start cell as a separate ForkJoinPool task.
+     * Results are merged in start cell order and a word found from several cells keeps the
+     * path of the first, so the result is identical to solve().
+     *
+     * @see #solve(int, int, String)
      */
-    private static void loadDictionaryFromFile() {
-        String fileContent = Gdx.files.internal(DICTIONARY_FILE).readString();
-        int start = 0;
-        int end;
+    public static SolveResult solveParallel(final int width, final int height, final String letters) {
+        checkBoard(width, height, letters);
 
-        while ((end = fileContent.indexOf('\n', start)) != -1) {
-            addWordToDictionary(fileContent.substring(start, end).trim());
-            start = end + 1;
+        final List<StartCellSearch> searches = new ArrayList<>(width * height);
+        for (int cell = 0; cell < width * height; cell++) {
+            searches.add(new StartCellSearch(width, height, letters, cell));
         }
 
-        // Last line (if no trailing newline)
-        if (start < fileContent.length()) {
-            addWordToDictionary(fileContent.substring(start).trim());
-        }
-
-        String commonWords = Source.getAsset("CommonWords.txt").readString();
-
-        start = 0;
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(searches);
+            }
+        });
 
-        while ((end = commonWords.indexOf('\n', start)) != -1) {
-            addWordToCommonDictionary(commonWords.substring(start, end).trim());
-            start = end + 1;
+        // Merge in start cell order, keeping the first path found for each word
+        IntSet seen = new IntSet();
+        List<String> words = new ArrayList<>();
+        IntArray nodes = new IntArray();
+        PathArena paths = new PathArena();
+        int score = 0;
+        int[] lengthCounts = new int[HISTOGRAM_SIZE];
+
+        for (StartCellSearch search : searches) {
+            for (int i = 0; i < search.words.size(); i++) {
+                String word = search.words.get(i);
+                int node = search.nodes.get(i);
+                if (seen.add(node)) {
+                    words.add(word);
+                    nodes.add(node);
+                    paths.add(search.paths, i);
+                    score += getWordValue(word);
+                    if (word.length() < HISTOGRAM_SIZE) {
+                        lengthCounts[word.length()]++;
+                    }
+                }
+            }
         }
 
-        // Last line (if no trailing newline)
-        if (start < commonWords.length()) {
-            addWordToCommonDictionary(commonWords.substring(start).trim());
-        }
+        return new SolveResult(WordDictionary.getDefault(), width, height, letters, words, nodes, paths,
+            score, lengthCounts);
     }
 
-    public static boolean isCommon(String word){
-        int a = word.charAt(0) - ASCII_OFFSET;
-        int b = word.charAt(1) - ASCII_OFFSET;
-        int c = word.charAt(2) - ASCII_OFFSET;
+    /**
+     * Searches the words starting at one cell on the worker thread's Solver.
+     */
+    private static final class StartCellSearch extends RecursiveAction {
+        private final int width;
+        private final int height;
+        private final String letters;
+        private final int cell;
+
+        private final List<String> words = new ArrayList<>();
+        private final IntArray nodes = new IntArray();
+        private PathArena paths;
+
+        StartCellSearch(int width, int height, String letters, int cell) {
+            this.width = width;
+            this.height = height;
+            this.letters = letters;
+            this.cell = cell;
+        }
 
-        return commonDictionary.get(a).get(b).get(c).contains(word);
+        @Override
+        protected void compute() {
+            Solver solver = workerSolvers.get();
+            solver.setBoard(width, height, letters);
+            solver.clearSearchResults();
+            solver.recordWords = true;
+            solver.searchFrom(cell, cell + 1);
+
+            words.addAll(solver.treasureWords);
+            nodes.addAll(solver.wordNodes);
+            paths = solver.wordPaths.copy();
+        }
     }
 
-    private static void addWordToCommonDictionary(String word) {
-        if (word.length() < 3) return;
-
-        try {
-            int a = word.charAt(0) - ASCII_OFFSET;
-            int b = word.charAt(1) - ASCII_OFFSET;
-            int c = word.charAt(2) - ASCII_OFFSET;
+    /**
+     * Loads the board letters into the search buffers.
+     */
+    private void setBoard(int width, int height, String letters) {
+        checkBoard(width, height, letters);
 
-            commonDictionary.get(a).get(b).get(c).add(word);
-        } catch (Exception ignored) {
-            // Ignore words with invalid characters
+        if (cells.length != width * height) {
+            cells = new char[width * height];
         }
+        letters.getChars(0, cells.length, cells, 0);
+        neighbors = getNeighborTable(width, height);
+        boardHeight = height;
     }
 
     /**
-     * Adds a word to the dictionary if it's 3+ letters.
+     * Validates board dimensions before a search.
      */
-    private static void addWordToDictionary(String word) {
-        if (word.length() < 3) return;
-
-        try {
-            int a = word.charAt(0) - ASCII_OFFSET;
-            int b = word.charAt(1) - ASCII_OFFSET;
-            int c = word.charAt(2) - ASCII_OFFSET;
-
-            dictionary.get(a).get(b).get(c).add(word);
-        } catch (Exception ignored) {
-            // Ignore words with invalid characters
+    private static void checkBoard(int width, int height, String letters) {
+        if (width * height > MAX_CELLS) {
+            throw new IllegalArgumentException("Board can have at most " + MAX_CELLS + " cells");
+        }
+        if (letters.length() < width * height) {
+            throw new IllegalArgumentException("Board must be rectangular");
         }
     }
 
     /**
-     * Clears all previous search results.
+     * Clears all previous search results and starts a new duplicate tracking epoch.
      */
-    private static void clearSearchResults() {
-        totalPoints = 0;
+    private void clearSearchResults() {
         treasureWords.clear();
+        wordNodes.clear();
         wordPaths.clear();
-        Arrays.fill(wordLengthCounts, 0);
-    }
+        runningScore = 0;
+        Arrays.fill(lengthCounts, 0);
 
-    public static List<List<List<List<String>>>> getCommonWords(){
-        return commonDictionary;
+        // Wipe the stamps only when the counter wraps
+        if (searchEpoch == Integer.MAX_VALUE) {
+            Arrays.fill(seenEpochs, 0);
+            searchEpoch = 0;
+        }
+        searchEpoch++;
     }
 
-    // ======================================================================
-    // Word Search
-    // ======================================================================
+    /**
+     * Searches every path starting at the cells in [from, to).
+     */
+    private void searchFrom(int from, int to) {
+        for (int cell = from; cell < to; cell++) {
+            search(cell, WordDictionary.ROOT, 0, 0L);
+        }
+    }
 
     /**
-     * Recursively searches the board for valid words starting from a position.
-     * Uses backtracking to explore all possible paths without revisiting cells.
+     * Backtracking step of solve().
      *
-     * @param x           Starting x coordinate
-     * @param y           Starting y coordinate
-     * @param currentWord Word built so far
-     * @param visited     Tracks which cells have been used in current path
-     * @param path        Current coordinate path (x,y pairs)
-     * @return List of valid words found from this position
-     */
-    public static List<String> checkWords(int x, int y, String currentWord, int[][] visited, List<Integer> path) {
-        List<String> foundWords = new ArrayList<>();
-
-        // Try to add current cell to the path
-        try {
-            currentWord += board.get(x).get(y);
-            path = new ArrayList<>(path);
-            path.add(x);
-            path.add(y);
-        } catch (Exception e) {
-            return foundWords; // Out of bounds
+     * @param cell    Cell being added to the path
+     * @param node    Trie node reached by the letters before this cell
+     * @param depth   Number of letters before this cell
+     * @param visited Bitmask of cells already in the path
+     */
+    private void search(int cell, int node, int depth, long visited) {
+        char letter = cells[cell];
+        node = dictionary.child(node, letter - ASCII_OFFSET);
+        if (node == WordDictionary.NONE) {
+            return;
         }
 
-        // Early termination: if 3+ chars and not a valid prefix, stop searching
-        if (currentWord.length() > 2 && !isValidPrefix(currentWord)) {
-            return foundWords;
-        }
+        wordBuffer[depth] = letter;
+        pathStack[depth] = cell;
+        depth++;
 
-        // If this is a word, record it
-        if (currentWord.length() > 2) {
-            addIfValidWord(currentWord, path, foundWords);
+        if (depth > 2 && dictionary.isWord(node) && markSeen(node)) {
+            acceptWord(node, depth);
         }
 
-        // Mark current cell visited
-        int[][] newVisited = copyVisitedGrid(visited);
-        newVisited[x][y] = 1;
-
-        // Explore all 8 neighboring cells
-        for (int dx = -1; dx <= 1; dx++) {
-            for (int dy = -1; dy <= 1; dy++) {
-                if (dx == 0 && dy == 0) continue;
-
-                int newX = x + dx;
-                int newY = y + dy;
+        if (!dictionary.hasChildren(node)) {
+            return;
+        }
 
-                try {
-                    if (newVisited[newX][newY] == 0) {
-                        foundWords.addAll(checkWords(newX, newY, currentWord, newVisited, path));
-                    }
-                } catch (Exception ignored) {
-                    // Out of bounds
-                }
+        visited |= 1L << cell;
+        for (int neighbor : neighbors[cell]) {
+            if ((visited & (1L << neighbor)) == 0) {
+                search(neighbor, node, depth, visited);
             }
         }
-
-        return foundWords;
     }
 
     /**
-     * Sorts two parallel lists by the length of words in the first list (longest first), then alphabetically.
-     * Both lists are sorted in the same order to maintain index correspondence.
+     * Marks a word's trie node as found in the current solve.
+     *
+     * @return true if the word had not been found yet
      */
-    public static void organize() {
-        List<Integer> indices = new ArrayList<>();
-        for (int i = 0; i < treasureWords.size(); i++) {
-            indices.add(i);
-        }
-
-        Collections.sort(indices, new Comparator<Integer>() {
-            @Override
-            public int compare(Integer i1, Integer i2) {
-                String s1 = treasureWords.get(i1);
-                String s2 = treasureWords.get(i2);
-
-                int lengthCompare = Integer.compare(s2.length(), s1.length());
-                if (lengthCompare == 0) {
-                    return s1.compareToIgnoreCase(s2);
-                }
-                return lengthCompare;
-            }
-        });
-
-        List<String> tempWords = new ArrayList<>(treasureWords);
-        List<List<Integer>> tempPaths = new ArrayList<>(wordPaths);
-
-        for (int i = 0; i < indices.size(); i++) {
-            int idx = indices.get(i);
-            treasureWords.set(i, tempWords.get(idx));
-            wordPaths.set(i, tempPaths.get(idx));
+    private boolean markSeen(int node) {
+        if (seenEpochs[node] == searchEpoch) {
+            return false;
         }
+        seenEpochs[node] = searchEpoch;
+        return true;
     }
 
     /**
-     * Copies the visited grid for backtracking.
+     * Adds the word currently in the buffers to the running score and length histogram,
+     * and records it when the search keeps words.
      */
-    private static int[][] copyVisitedGrid(int[][] original) {
-        int[][] copy = new int[boardWidth][boardHeight];
-        for (int i = 0; i < boardWidth * boardHeight; i++) {
-            copy[i % boardWidth][i / boardWidth] = original[i % boardWidth][i / boardWidth];
+    private void acceptWord(int node, int length) {
+        runningScore += getWordValue(length);
+        if (length < HISTOGRAM_SIZE) {
+            lengthCounts[length]++;
+        }
+
+        if (recordWords) {
+            recordWord(node, length);
         }
-        return copy;
     }
 
     /**
-     * Checks if the current word is a valid prefix in the dictionary.
-     * A prefix is valid if any dictionary word starts with it.
+     * Records the word currently in the buffers.
      */
-    private static boolean isValidPrefix(String prefix) {
-        List<String> candidates = getDictionaryEntry(prefix);
-
-        for (String word : candidates) {
-            if (word.startsWith(prefix)) return true;
-        }
-        return false;
+    private void recordWord(int node, int length) {
+        treasureWords.add(new String(wordBuffer, 0, length));
+        wordNodes.add(node);
+        wordPaths.add(pathStack, length);
     }
 
     /**
-     * Adds the word to results if it exists in the dictionary.
-     * Removes the word from dictionary to prevent duplicates.
+     * Gets the neighbor table for a board size, building it the first time the size is used.
      */
-    private static void addIfValidWord(String word, List<Integer> path, List<String> foundWords) {
-        List<String> candidates = getDictionaryEntry(word);
-
-        for (int i = 0; i < candidates.size(); i++) {
-            if (candidates.get(i).equals(word)) {
-                foundWords.add(word);
-                treasureWords.add(word);
-                wordPaths.add(new ArrayList<>(path));
-                candidates.remove(i);
-                break;
+    private static int[][] getNeighborTable(int width, int height) {
+        int key = width * MAX_CELLS + height;
+        synchronized (neighborTables) {
+            int[][] table = neighborTables.get(key);
+            if (table == null) {
+                table = buildNeighborTable(width, height);
+                neighborTables.put(key, table);
             }
+            return table;
         }
     }
 
     /**
-     * Gets the dictionary bucket for words with this prefix.
+     * Lists the in-bounds neighbors of every cell, scanning dx then dy from -1 to 1.
      */
-    private static List<String> getDictionaryEntry(String word) {
-        int a = word.charAt(0) - ASCII_OFFSET;
-        int b = word.charAt(1) - ASCII_OFFSET;
-        int c = word.charAt(2) - ASCII_OFFSET;
+    private static int[][] buildNeighborTable(int width, int height) {
+        int[][] table = new int[width * height][];
+        int[] buffer = new int[8];
 
-        return dictionary.get(a).get(b).get(c);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int count = 0;
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dy = -1; dy <= 1; dy++) {
+                        int newX = x + dx;
+                        int newY = y + dy;
+                        if ((dx != 0 || dy != 0) && newX >= 0 && newX < width && newY >= 0 && newY < height) {
+                            buffer[count++] = newX * height + newY;
+                        }
+                    }
+                }
+                table[x * height + y] = Arrays.copyOf(buffer, count);
+            }
+        }
+
+        return table;
     }
 
     // ======================================================================
@@ -428,55 +478,14 @@ public class Solver {
      * @return Point value (100 for 3 letters, scaling up to 10,600 for 25 letters)
      */
     public static int getWordValue(String word) {
-        int length = word.length();
-        if (length < 3 || length > 25) return 0;
-
-        switch (length) {
-            case 3:  return 100;
-            case 4:  return 400;
-            case 5:  return 800;
-            case 6:  return 1400;
-            case 7:  return 1800;
-            case 8:  return 2200;
-            case 9:  return 2600;
-            case 10: return 3000;
-            case 11: return 3600;
-            case 12: return 4000;
-            case 13: return 4600;
-            case 14: return 5000;
-            case 15: return 5600;
-            case 16: return 6000;
-            case 17: return 6600;
-            case 18: return 7000;
-            case 19: return 7600;
-            case 20: return 8000;
-            case 21: return 8600;
-            case 22: return 9000;
-            case 23: return 9600;
-            case 24: return 10000;
-            case 25: return 10600;
-            default: return 0;
-        }
+        return getWordValue(word.length());
     }
 
     /**
-     * Calculates total score from all found words and updates length statistics.
+     * Calculates the point value for a word of the given length.
      */
-    public static int calculatePoints() {
-        totalPoints = 0;
-
-        for (String word : treasureWords) {
-            int length = word.length();
-            int value = getWordValue(word);
-
-            totalPoints += value;
-
-            if (length < wordLengthCounts.length) {
-                wordLengthCounts[length]++;
-            }
-        }
-
-        return totalPoints;
+    static int getWordValue(int length) {
+        return length < WORD_VALUES.length ? WORD_VALUES[length] : 0;
     }
 
     // ======================================================================
@@ -487,11 +496,19 @@ public class Solver {
      * Generates a random board using weighted letter frequencies.
      */
     public static String generateBoard(int width, int height) {
+        return generateBoard(width, height, new SplittableRandom());
+    }
+
+    /**
+     * Generates a random board using weighted letter frequencies, drawing from the given source
+     * so the same seed always gives the same board.
+     */
+    public static String generateBoard(int width, int height, SplittableRandom random) {
         int totalWeight = calculateTotalWeight();
         StringBuilder sb = new StringBuilder();
 
         for (int i = 0; i < width * height; i++) {
-            sb.append(selectRandomLetter(totalWeight));
+            sb.append(selectRandomLetter(totalWeight, random));
         }
 
         return sb.toString();
@@ -509,8 +526,8 @@ public class Solver {
     /**
      * Selects a random letter based on weighted probabilities.
      */
-    private static char selectRandomLetter(int totalWeight) {
-        int random = (int) (Math.random() * totalWeight);
+    private static char selectRandomLetter(int totalWeight, SplittableRandom source) {
+        int random = source.nextInt(totalWeight);
         int cumulative = 0;
 
         for (int i = 0; i < ALPHABET_SIZE; i++) {
@@ -527,70 +544,21 @@ public class Solver {
     // Getters / Misc
     // ======================================================================
 
-    public static List<List<Character>> getBoard() {
-        return board;
-    }
-
-    public static List<String> getTreasureWords() {
-        return treasureWords;
+    public static boolean isCommon(String word){
+        return WordDictionary.getDefault().isCommon(word);
     }
 
     /**
-     * Gets the coordinate path for a specific found word.
-     *
-     * @param index Index of the word in treasureWords
-     * @return List of coordinates (x,y pairs) forming the path
+     * Gets the solved board the next game will be played on.
      */
-    public static List<Integer> getWordPath(int index) {
-        return wordPaths.get(index);
-    }
-
-    public static int getNumWords() {
-        return wordPaths.size();
-    }
-
-    public static int getBoardValue() {
-        return boardValue;
-    }
-
-    public static void setBoardValue(int value) {
-        boardValue = value;
-    }
-
-    public static int getBoardWidth() {
-        return boardWidth;
+    public static SolveResult getCurrentBoard() {
+        return currentBoard;
     }
 
-    public static int getBoardHeight() {
-        return boardHeight;
-    }
-
-    // ======================================================================
-    // Rank
-    // ======================================================================
-
-    public static float calculateRank(List<String> foundWords) {
-        points = 0;
-        for (String foundWord : foundWords) {
-            points += getWordValue(foundWord);
-        }
-        return adjust(50, 25, 0);
-    }
-
-    private static float adjust(float rank, float change, int iteration) {
-        int tempPoints = 0;
-        for (String treasureWord : treasureWords) {
-            if (WordDifficultyRanker.wordDifficulty(treasureWord) < rank) {
-                tempPoints += getWordValue(treasureWord);
-            }
-        }
-
-        if (iteration == 100) {
-            return rank;
-        } else if (points > tempPoints) {
-            return adjust(rank + change, change / 2, iteration + 1);
-        } else {
-            return adjust(rank - change, change / 2, iteration + 1);
-        }
+    /**
+     * Publishes a solved board for the next game.
+     */
+    public static void setCurrentBoard(SolveResult board) {
+        currentBoard = board;
     }
 }
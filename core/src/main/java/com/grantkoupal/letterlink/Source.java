@@ -24,6 +24,12 @@ public class Source extends Manager {
     @Override
     public void setUp() {
 
+        // Load the dictionary in the background so the first solve doesn't wait for it
+        WordDictionary.preload();
+
+        // Keep practice boards generated ahead of time while the player is in menus or playing
+        BoardPool.start();
+
         saveDataEvery10Seconds();
         setRatio(1500, 3000);
 
@@ -0,0 +1,528 @@
+package com.grantkoupal.letterlink;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Compact array-backed trie holding every playable word.
+ *
+ * Each node is a single int: bits 0-25 record which letters have a child node,
+ * bit 26 marks the end of a word and bit 27 marks a common word. The children of
+ * a node are stored next to each other in letter order starting at firstChild[node],
+ * so a child lookup is one mask test plus a bit count and prefix pruning is a single
+ * array read.
+ *
+ * The trie is never modified after it is built. Node indices double as word ids,
+ * so callers can keep per-word data in arrays of getNodeCount() entries. The dictionary
+ * does this itself for word difficulty, rated once per word when the trie is built.
+ *
+ * The build compiles the word files into Dictionary.bin (see the core compileDictionary
+ * Gradle task), which is the node array followed by the difficulty of each word, so
+ * loading it is two bulk copies.
+ */
+public class WordDictionary {
+
+    // ===== Constants =====
+    public static final int ROOT = 0;
+    public static final int NONE = -1;
+
+    private static final int ALPHABET_SIZE = 26;
+    private static final int MIN_WORD_LENGTH = 3;
+    private static final int LETTER_MASK = (1 << ALPHABET_SIZE) - 1;
+    private static final int WORD_FLAG = 1 << 26;
+    private static final int COMMON_FLAG = 1 << 27;
+    private static final String DICTIONARY_FILE = "Words.txt";
+    private static final String COMMON_WORDS_FILE = "CommonWords.txt";
+    public static final String BINARY_FILE = "Dictionary.bin";
+
+    // ===== Binary Format =====
+    private static final int BINARY_MAGIC = 0x4C4C5744; // "LLWD"
+    private static final int BINARY_VERSION = 2;
+    private static final int BINARY_HEADER_INTS = 4; // magic, version, node count, word count
+
+    // ===== Shared Instance =====
+    private static FutureTask<WordDictionary> defaultLoad;
+
+    // ===== Trie Storage =====
+    private final int[] nodes;
+    private final int[] firstChild;
+    private final int wordCount;
+
+    // ===== Word Data =====
+    private final float[] difficulties; // by node, 0 for nodes that aren't words
+
+    private WordDictionary(int[] nodes, int[] firstChild, int wordCount, float[] difficulties) {
+        this.nodes = nodes;
+        this.firstChild = firstChild;
+        this.wordCount = wordCount;
+        this.difficulties = difficulties;
+    }
+
+    // ======================================================================
+    // Loading
+    // ======================================================================
+
+    /**
+     * Starts loading the bundled dictionary on a background thread.
+     * Called once at startup so the first solve does not pay for the load; later calls return the same future.
+     *
+     * @return Future completed with the shared dictionary
+     */
+    public static synchronized Future<WordDictionary> preload() {
+        if (defaultLoad == null) {
+            defaultLoad = createDefaultLoad();
+
+            Thread loader = new Thread(defaultLoad, "Dictionary Loader");
+            loader.setDaemon(true);
+            loader.start();
+        }
+        return defaultLoad;
+    }
+
+    /**
+     * Checks if the bundled dictionary has finished loading, so getDefault() will not block.
+     */
+    public static synchronized boolean isDefaultLoaded() {
+        return defaultLoad != null && defaultLoad.isDone();
+    }
+
+    /**
+     * Gets the bundled dictionary.
+     * Waits for preload() if it is still running, or loads on the calling thread if it was never started.
+     * The same immutable instance is shared by every Solver.
+     */
+    public static WordDictionary getDefault() {
+        FutureTask<WordDictionary> load;
+        synchronized (WordDictionary.class) {
+            if (defaultLoad == null) {
+                defaultLoad = createDefaultLoad();
+            }
+            load = defaultLoad;
+        }
+
+        // Does nothing if the loader thread already started it
+        load.run();
+
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading the dictionary", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to load the dictionary", e.getCause());
+        }
+    }
+
+    private static FutureTask<WordDictionary> createDefaultLoad() {
+        return new FutureTask<>(new Callable<WordDictionary>() {
+            @Override
+            public WordDictionary call() {
+                return loadDefault();
+            }
+        });
+    }
+
+    /**
+     * Reads the precompiled Dictionary.bin when it is packaged, otherwise builds the trie from the word files.
+     * A Dictionary.bin that can't be read, such as one left over from an older format, is treated as missing.
+     */
+    private static WordDictionary loadDefault() {
+        FileHandle binary = Gdx.files.internal(BINARY_FILE);
+        if (binary.exists()) {
+            try {
+                return read(readBinary(binary));
+            } catch (RuntimeException e) {
+                // Stale or damaged file, the word files are always packaged
+                e.printStackTrace();
+            }
+        }
+        return load(Gdx.files.internal(DICTIONARY_FILE), Source.getAsset(COMMON_WORDS_FILE));
+    }
+
+    /**
+     * Reads a compiled dictionary file.
+     * Desktop maps the file into memory; other platforms (and desktop jars, where the
+     * asset is not a real file) read it into one byte array.
+     */
+    private static ByteBuffer readBinary(FileHandle file) {
+        if (Gdx.app != null && Gdx.app.getType() == Application.ApplicationType.Desktop) {
+            try {
+                return file.map();
+            } catch (GdxRuntimeException ignored) {
+                // Packaged inside the jar, fall back to a bulk read
+            }
+        }
+        return ByteBuffer.wrap(file.readBytes());
+    }
+
+    /**
+     * Reads a dictionary written by write().
+     * The node and difficulty arrays are copied out in bulk gets and the child offsets are rebuilt
+     * from the nodes, no per-word objects are created.
+     *
+     * @param data Compiled dictionary, positioned at its start (its byte order is set to big-endian)
+     */
+    public static WordDictionary read(ByteBuffer data) {
+        data.order(ByteOrder.BIG_ENDIAN);
+        if (data.remaining() < BINARY_HEADER_INTS * 4 || data.getInt() != BINARY_MAGIC) {
+            throw new RuntimeException("Not a compiled dictionary file");
+        }
+        int version = data.getInt();
+        if (version != BINARY_VERSION) {
+            throw new RuntimeException("Unsupported dictionary version: " + version);
+        }
+
+        int nodeCount = data.getInt();
+        int wordCount = data.getInt();
+        if (nodeCount <= 0 || wordCount < 0 || data.remaining() < (nodeCount + (long) wordCount) * 4L) {
+            throw new RuntimeException("Compiled dictionary is truncated");
+        }
+
+        int[] nodes = new int[nodeCount];
+        data.asIntBuffer().get(nodes);
+        data.position(data.position() + nodeCount * 4);
+
+        // Children are laid out breadth first, so each node's children start right after the previous node's
+        int[] firstChild = new int[nodeCount];
+        int next = 1;
+        for (int node = 0; node < nodeCount; node++) {
+            firstChild[node] = next;
+            next += Integer.bitCount(nodes[node] & LETTER_MASK);
+        }
+        if (next != nodeCount) {
+            throw new RuntimeException("Compiled dictionary is corrupt");
+        }
+
+        // Difficulties are stored for word nodes only, in node order
+        float[] wordDifficulties = new float[wordCount];
+        data.asFloatBuffer().get(wordDifficulties);
+        data.position(data.position() + wordCount * 4);
+
+        float[] difficulties = new float[nodeCount];
+        int word = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            if ((nodes[node] & WORD_FLAG) != 0) {
+                if (word == wordCount) {
+                    throw new RuntimeException("Compiled dictionary is corrupt");
+                }
+                difficulties[node] = wordDifficulties[word++];
+            }
+        }
+        if (word != wordCount) {
+            throw new RuntimeException("Compiled dictionary is corrupt");
+        }
+
+        return new WordDictionary(nodes, firstChild, wordCount, difficulties);
+    }
+
+    /**
+     * Writes the dictionary in the compiled format read by read().
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(BINARY_MAGIC);
+        data.writeInt(BINARY_VERSION);
+        data.writeInt(nodes.length);
+        data.writeInt(wordCount);
+        for (int node : nodes) {
+            data.writeInt(node);
+        }
+        for (int node = 0; node < nodes.length; node++) {
+            if (isWord(node)) {
+                data.writeFloat(difficulties[node]);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Builds a dictionary from newline separated word files.
+     * Only words of 3+ lowercase letters are stored.
+     *
+     * @param words  File containing every valid word
+     * @param common File containing the common words subset
+     */
+    public static WordDictionary load(FileHandle words, FileHandle common) {
+        return build(words.readBytes(), common.readBytes());
+    }
+
+    /**
+     * Builds a dictionary from the raw bytes of the word files.
+     * Words are read straight out of the byte arrays, no per-word Strings are created.
+     * Rating every word's difficulty is most of the cost, which is why the build does it ahead of time.
+     */
+    public static WordDictionary build(byte[] words, byte[] commonWords) {
+        Builder builder = new Builder(words.length / 4);
+
+        int start = 0;
+        for (int i = 0; i <= words.length; i++) {
+            if (i == words.length || words[i] == '\n') {
+                builder.insert(words, start, i);
+                start = i + 1;
+            }
+        }
+
+        start = 0;
+        for (int i = 0; i <= commonWords.length; i++) {
+            if (i == commonWords.length || commonWords[i] == '\n') {
+                builder.markCommon(commonWords, start, i);
+                start = i + 1;
+            }
+        }
+
+        return builder.compact();
+    }
+
+    // ======================================================================
+    // Lookup
+    // ======================================================================
+
+    /**
+     * Gets the child of a node for a letter.
+     *
+     * @param node   Parent node
+     * @param letter Letter index (0 = 'a')
+     * @return Child node, or NONE if no word continues with this letter
+     */
+    public int child(int node, int letter) {
+        if (letter < 0 || letter >= ALPHABET_SIZE) return NONE;
+
+        int mask = nodes[node];
+        int bit = 1 << letter;
+        if ((mask & bit) == 0) return NONE;
+
+        return firstChild[node] + Integer.bitCount(mask & (bit - 1));
+    }
+
+    /**
+     * Checks if a node has any children, i.e. the path to it is a prefix of a longer word.
+     */
+    public boolean hasChildren(int node) {
+        return (nodes[node] & LETTER_MASK) != 0;
+    }
+
+    /**
+     * Checks if the path to this node spells a complete word.
+     */
+    public boolean isWord(int node) {
+        return (nodes[node] & WORD_FLAG) != 0;
+    }
+
+    /**
+     * Checks if the path to this node spells a common word.
+     */
+    public boolean isCommon(int node) {
+        return (nodes[node] & COMMON_FLAG) != 0;
+    }
+
+    /**
+     * Walks the trie along a word.
+     *
+     * @return Node reached by the word, or NONE if it is not a prefix of any word
+     */
+    public int find(CharSequence word) {
+        int node = ROOT;
+        for (int i = 0; i < word.length() && node != NONE; i++) {
+            node = child(node, word.charAt(i) - 'a');
+        }
+        return node;
+    }
+
+    public boolean contains(CharSequence word) {
+        int node = find(word);
+        return node != NONE && isWord(node);
+    }
+
+    public boolean isCommon(CharSequence word) {
+        int node = find(word);
+        return node != NONE && isCommon(node);
+    }
+
+    /**
+     * Gets the difficulty of the word ending at a node, as rated by WordDifficultyRanker.
+     *
+     * @param node Word node
+     * @return Difficulty from 0 (easiest) to 100 (hardest)
+     */
+    public float getDifficulty(int node) {
+        return difficulties[node];
+    }
+
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    // ======================================================================
+    // Builder
+    // ======================================================================
+
+    /**
+     * Linked-list trie used while reading the word files.
+     * Compacted into the bitmask layout once every word has been inserted.
+     */
+    private static class Builder {
+        private int[] firstChild;
+        private int[] nextSibling;
+        private byte[] letter;
+        private int[] flags;
+        private int count = 0;
+        private int wordCount = 0;
+
+        Builder(int capacity) {
+            capacity = Math.max(capacity, 16);
+            firstChild = new int[capacity];
+            nextSibling = new int[capacity];
+            letter = new byte[capacity];
+            flags = new int[capacity];
+            newNode(0);
+        }
+
+        private int newNode(int l) {
+            if (count == firstChild.length) {
+                int capacity = count * 2;
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                letter = Arrays.copyOf(letter, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+            }
+            firstChild[count] = NONE;
+            nextSibling[count] = NONE;
+            letter[count] = (byte) l;
+            flags[count] = 0;
+            return count++;
+        }
+
+        private int findChild(int node, int l) {
+            for (int c = firstChild[node]; c != NONE; c = nextSibling[c]) {
+                if (letter[c] == l) return c;
+            }
+            return NONE;
+        }
+
+        /**
+         * Trims whitespace from [start, end) and checks the word is 3+ lowercase letters.
+         * @return Trimmed end index, or -1 if the word should be ignored
+         */
+        private static int wordEnd(byte[] data, int start, int end) {
+            while (end > start && data[end - 1] <= ' ') end--;
+            if (end - start < MIN_WORD_LENGTH) return -1;
+
+            for (int i = start; i < end; i++) {
+                if (data[i] < 'a' || data[i] > 'z') return -1;
+            }
+            return end;
+        }
+
+        void insert(byte[] data, int start, int end) {
+            while (start < end && data[start] <= ' ') start++;
+            end = wordEnd(data, start, end);
+            if (end == -1) return;
+
+            int node = ROOT;
+            for (int i = start; i < end; i++) {
+                int l = data[i] - 'a';
+                int child = findChild(node, l);
+                if (child == NONE) {
+                    child = newNode(l);
+                    nextSibling[child] = firstChild[node];
+                    firstChild[node] = child;
+                }
+                node = child;
+            }
+
+            if ((flags[node] & WORD_FLAG) == 0) {
+                flags[node] |= WORD_FLAG;
+                wordCount++;
+            }
+        }
+
+        void markCommon(byte[] data, int start, int end) {
+            while (start < end && data[start] <= ' ') start++;
+            end = wordEnd(data, start, end);
+            if (end == -1) return;
+
+            int node = ROOT;
+            for (int i = start; i < end && node != NONE; i++) {
+                node = findChild(node, data[i] - 'a');
+            }
+
+            if (node != NONE && (flags[node] & WORD_FLAG) != 0) {
+                flags[node] |= COMMON_FLAG;
+            }
+        }
+
+        /**
+         * Lays the nodes out breadth first so every node's children are contiguous and in letter order.
+         */
+        WordDictionary compact() {
+            int[] nodes = new int[count];
+            int[] first = new int[count];
+            int[] order = new int[count];
+            int[] slots = new int[ALPHABET_SIZE];
+            Arrays.fill(slots, NONE);
+
+            order[0] = ROOT;
+            int tail = 1;
+
+            for (int head = 0; head < tail; head++) {
+                int node = order[head];
+                int mask = 0;
+
+                for (int c = firstChild[node]; c != NONE; c = nextSibling[c]) {
+                    slots[letter[c]] = c;
+                    mask |= 1 << letter[c];
+                }
+
+                first[head] = tail;
+                for (int l = 0; l < ALPHABET_SIZE; l++) {
+                    if (slots[l] != NONE) {
+                        order[tail++] = slots[l];
+                        slots[l] = NONE;
+                    }
+                }
+
+                nodes[head] = mask | flags[node];
+            }
+
+            float[] difficulties = new float[count];
+            rateWords(nodes, first, ROOT, new StringBuilder(), difficulties);
+
+            return new WordDictionary(nodes, first, wordCount, difficulties);
+        }
+
+        /**
+         * Spells out every word below a node in the compacted trie and records its difficulty.
+         */
+        private static void rateWords(int[] nodes, int[] first, int node, StringBuilder word, float[] difficulties) {
+            if ((nodes[node] & WORD_FLAG) != 0) {
+                difficulties[node] = (float) WordDifficultyRanker.rate(word);
+            }
+
+            int child = first[node];
+            for (int l = 0; l < ALPHABET_SIZE; l++) {
+                if ((nodes[node] & (1 << l)) != 0) {
+                    word.append((char) ('a' + l));
+                    rateWords(nodes, first, child++, word, difficulties);
+                    word.setLength(word.length() - 1);
+                }
+            }
+        }
+    }
+}
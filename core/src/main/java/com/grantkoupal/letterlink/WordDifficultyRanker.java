@@ -21,29 +21,21 @@ import java.util.*;
  */
 public class WordDifficultyRanker {
 
-    // Letter frequency in English (higher = more common)
-    private static final Map<Character, Double> LETTER_FREQ = new HashMap<>();
-    static {
-        LETTER_FREQ.put('e', 12.70); LETTER_FREQ.put('t', 9.06);  LETTER_FREQ.put('a', 8.17);
-        LETTER_FREQ.put('o', 7.51);  LETTER_FREQ.put('i', 6.97);  LETTER_FREQ.put('n', 6.75);
-        LETTER_FREQ.put('s', 6.33);  LETTER_FREQ.put('h', 6.09);  LETTER_FREQ.put('r', 5.99);
-        LETTER_FREQ.put('d', 4.25);  LETTER_FREQ.put('l', 4.03);  LETTER_FREQ.put('c', 2.78);
-        LETTER_FREQ.put('u', 2.76);  LETTER_FREQ.put('m', 2.41);  LETTER_FREQ.put('w', 2.36);
-        LETTER_FREQ.put('f', 2.23);  LETTER_FREQ.put('g', 2.02);  LETTER_FREQ.put('y', 1.97);
-        LETTER_FREQ.put('p', 1.93);  LETTER_FREQ.put('b', 1.29);  LETTER_FREQ.put('v', 0.98);
-        LETTER_FREQ.put('k', 0.77);  LETTER_FREQ.put('j', 0.15);  LETTER_FREQ.put('x', 0.15);
-        LETTER_FREQ.put('q', 0.10);  LETTER_FREQ.put('z', 0.07);
-    }
+    // Letter frequency in English (higher = more common), indexed by letter (0 = 'a')
+    private static final double[] LETTER_FREQ = {
+        8.17, 1.29, 2.78, 4.25, 12.70, 2.23, 2.02, 6.09, 6.97, 0.15, 0.77, 4.03, 2.41,
+        6.75, 7.51, 1.93, 0.10, 5.99, 6.33, 9.06, 2.76, 0.98, 2.36, 0.15, 1.97, 0.07
+    };
 
     // Common English digrams (two-letter combinations)
-    private static final Set<String> COMMON_DIGRAMS = new HashSet<>(Arrays.asList(
+    private static final String[] COMMON_DIGRAMS = {
         "th", "he", "in", "er", "an", "re", "on", "at", "en", "nd",
         "ti", "es", "or", "te", "of", "ed", "is", "it", "al", "ar",
         "st", "to", "nt", "ng", "ve", "se", "ha", "as", "ou", "io"
-    ));
+    };
 
-    // Very common English words
-    private static final Set<String> VERY_COMMON_WORDS = new HashSet<>(Arrays.asList(
+    // Very common English words (sorted once below for binary search)
+    private static final String[] VERY_COMMON_WORDS = {
         "the", "and", "for", "are", "but", "not", "you", "all", "can", "her",
         "was", "one", "our", "out", "day", "get", "has", "him", "his", "how",
         "man", "new", "now", "old", "see", "two", "way", "who", "boy", "its",
@@ -51,9 +43,9 @@ public class WordDifficultyRanker {
         "will", "your", "from", "they", "know", "want", "been", "good", "much",
         "some", "time", "very", "when", "come", "here", "just", "like", "long",
         "make", "many", "over", "such", "take", "than", "them", "well", "only"
-    ));
+    };
 
-    private static final Set<String> COMMON_WORDS = new HashSet<>(Arrays.asList(
+    private static final String[] COMMON_WORDS = {
         "about", "after", "back", "before", "call", "could", "down", "each",
         "even", "every", "find", "first", "give", "great", "hand", "help",
         "high", "keep", "kind", "last", "leave", "life", "little", "look",
@@ -63,24 +55,38 @@ public class WordDifficultyRanker {
         "want", "water", "where", "which", "while", "work", "world", "would",
         "write", "year", "young", "always", "around", "between", "house",
         "never", "point", "school", "something", "together", "without"
-    ));
+    };
+
+    private static final String[] COMMON_PREFIXES = {"un", "re", "in", "de", "dis", "pre", "sub", "con", "com"};
+    private static final String[] COMMON_SUFFIXES = {"ing", "ed", "er", "ly", "tion", "ness", "ment"};
+
+    // Digram lookup by first letter * 26 + second letter
+    private static final boolean[] IS_COMMON_DIGRAM = new boolean[26 * 26];
+    static {
+        for (String digram : COMMON_DIGRAMS) {
+            IS_COMMON_DIGRAM[(digram.charAt(0) - 'a') * 26 + digram.charAt(1) - 'a'] = true;
+        }
+        Arrays.sort(VERY_COMMON_WORDS);
+        Arrays.sort(COMMON_WORDS);
+    }
 
-    /**
-     * Calculate difficulty score for a word (0-100).
-     *
-     * @param word The word to rank
-     * @return Difficulty score from 0 (easiest) to 100 (hardest)
-     */
     /**
      * Static method for quick word difficulty lookup.
-     * Creates a new ranker instance and returns the difficulty score.
+     * Scores the word directly; allocates nothing for lowercase words.
      *
      * @param word The word to rank
      * @return Difficulty score from 0.0 (easiest) to 100.0 (hardest)
      */
     public static double wordDifficulty(String word) {
-        WordDifficultyRanker ranker = new WordDifficultyRanker();
-        return ranker.getDifficulty(word);
+        if (isLowercaseWord(word)) {
+            return rate(word);
+        }
+
+        word = word.toLowerCase().trim();
+        if (!isLowercaseWord(word)) {
+            return 50.0; // Default for invalid input
+        }
+        return rate(word);
     }
 
     /**
@@ -90,14 +96,20 @@ public class WordDifficultyRanker {
      * @return Difficulty score from 0.0 (easiest) to 100.0 (hardest) as a double
      */
     public double getDifficulty(String word) {
-        word = word.toLowerCase().trim();
+        return wordDifficulty(word);
+    }
 
-        if (word.isEmpty() || !word.matches("[a-z]+")) {
-            return 50.0; // Default for invalid input
-        }
+    /**
+     * Scores a word already known to be lowercase letters, e.g. one spelled out while walking the dictionary.
+     *
+     * @param word Non-empty word of 'a'-'z' only
+     * @return Difficulty score from 0.0 (easiest) to 100.0 (hardest)
+     */
+    static double rate(CharSequence word) {
+        int length = word.length();
 
         // Calculate individual factors
-        double lengthScore = getLengthScore(word);
+        double lengthScore = getLengthScore(length);
         double letterRarityScore = getLetterRarityScore(word);
         double patternScore = getPatternScore(word);
         double commonnessScore = getCommonnessScore(word);
@@ -113,33 +125,26 @@ public class WordDifficultyRanker {
 
         // 1. Word hash variation (first 3 letters)
         int wordHash = 0;
-        for (int i = 0; i < Math.min(3, word.length()); i++) {
+        for (int i = 0; i < Math.min(3, length); i++) {
             wordHash += (word.charAt(i) - 'a');
         }
         double microOffset1 = (wordHash % 26) * 0.15;
 
         // 2. Last letter variation
-        double lastLetterOffset = 0;
-        if (!word.isEmpty()) {
-            lastLetterOffset = (word.charAt(word.length() - 1) - 'a') * 0.08;
-        }
+        double lastLetterOffset = (word.charAt(length - 1) - 'a') * 0.08;
 
         // 3. Middle letter variation
         double midOffset = 0;
-        if (word.length() >= 3) {
-            char midChar = word.charAt(word.length() / 2);
+        if (length >= 3) {
+            char midChar = word.charAt(length / 2);
             midOffset = (midChar - 'a') * 0.05;
         }
 
         // 4. Length modulo variation
-        double lengthModOffset = (word.length() % 7) * 0.12;
+        double lengthModOffset = (length % 7) * 0.12;
 
         // 5. Unique letter count variation
-        Set<Character> uniqueLetters = new HashSet<>();
-        for (char c : word.toCharArray()) {
-            uniqueLetters.add(c);
-        }
-        double uniqueOffset = (uniqueLetters.size() % 5) * 0.18;
+        double uniqueOffset = (countUniqueLetters(word) % 5) * 0.18;
 
         difficulty += microOffset1 + lastLetterOffset + midOffset + lengthModOffset + uniqueOffset;
 
@@ -147,13 +152,39 @@ public class WordDifficultyRanker {
         return Math.max(0.0, Math.min(100.0, difficulty));
     }
 
+    /**
+     * Checks for a non-empty word of lowercase letters, the only input rate() scores.
+     */
+    private static boolean isLowercaseWord(String word) {
+        if (word.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countUniqueLetters(CharSequence word) {
+        int seen = 0;
+        for (int i = 0; i < word.length(); i++) {
+            seen |= 1 << (word.charAt(i) - 'a');
+        }
+        return Integer.bitCount(seen);
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+
     /**
      * Score based on word length with very extreme scaling.
      * NOW USES FULL 0-100 RANGE with words in every 10-point bucket!
      */
-    private double getLengthScore(String word) {
-        int length = word.length();
-
+    private static double getLengthScore(int length) {
         // More extreme base scores, lowered to get 0-10 range words
         if (length == 1) return 98.0;   // Single letters extremely rare/hard
         else if (length == 2) return 90.0;   // Two letters very hard
@@ -172,22 +203,40 @@ public class WordDifficultyRanker {
         else return 50.0;
     }
 
-    /**
-     * Score based on letter rarity with continuous scaling.
-     */
     /**
      * Score based on letter rarity with continuous scaling and multiple factors.
      */
-    private double getLetterRarityScore(String word) {
-        List<Double> letterFreqs = new ArrayList<>();
-        for (char c : word.toCharArray()) {
-            letterFreqs.add(LETTER_FREQ.getOrDefault(c, 0.5));
-        }
+    private static double getLetterRarityScore(CharSequence word) {
+        int length = word.length();
 
-        double totalFreq = letterFreqs.stream().mapToDouble(Double::doubleValue).sum();
-        double avgFreq = totalFreq / word.length();
-        double minFreq = letterFreqs.stream().mapToDouble(Double::doubleValue).min().orElse(0.5);
-        double maxFreq = letterFreqs.stream().mapToDouble(Double::doubleValue).max().orElse(0.5);
+        // Sums are compensated, matching the DoubleStream.sum() this was first written with
+        double totalFreq = 0;
+        double totalError = 0;
+        double minFreq = Double.MAX_VALUE;
+        double maxFreq = -Double.MAX_VALUE;
+        int rareCount = 0;
+        int veryRareCount = 0;
+        int ultraRareCount = 0;
+        int sumPositions = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = word.charAt(i) - 'a';
+            double freq = LETTER_FREQ[letter];
+
+            double corrected = freq - totalError;
+            double sum = totalFreq + corrected;
+            totalError = (sum - totalFreq) - corrected;
+            totalFreq = sum;
+
+            minFreq = Math.min(minFreq, freq);
+            maxFreq = Math.max(maxFreq, freq);
+            if (freq < 0.5) rareCount++;
+            if (freq < 0.2) veryRareCount++;
+            if (freq < 0.12) ultraRareCount++;
+            sumPositions += letter;
+        }
+        totalFreq -= totalError;
+
+        double avgFreq = totalFreq / length;
 
         // Base score from average frequency
         double baseScore = 100.0 - (avgFreq * 7.8);
@@ -197,20 +246,12 @@ public class WordDifficultyRanker {
         baseScore += rarityPenalty;
 
         // Count-based penalties with different thresholds
-        long rareCount = letterFreqs.stream().filter(f -> f < 0.5).count();
-        long veryRareCount = letterFreqs.stream().filter(f -> f < 0.2).count();
-        long ultraRareCount = letterFreqs.stream().filter(f -> f < 0.12).count();
-
         baseScore += rareCount * 3.2;
         baseScore += veryRareCount * 5.3;
         baseScore += ultraRareCount * 7.1;
 
         // Letter diversity
-        Set<Character> uniqueLetters = new HashSet<>();
-        for (char c : word.toCharArray()) {
-            uniqueLetters.add(c);
-        }
-        double diversityRatio = (double) uniqueLetters.size() / word.length();
+        double diversityRatio = (double) countUniqueLetters(word) / length;
         baseScore += diversityRatio * 2.4;
 
         // Frequency spread
@@ -218,43 +259,47 @@ public class WordDifficultyRanker {
         baseScore += (freqSpread / 12.7) * 2.8;
 
         // Standard deviation of frequencies
-        if (letterFreqs.size() > 1) {
+        if (length > 1) {
             double mean = avgFreq;
-            double variance = letterFreqs.stream()
-                .mapToDouble(f -> Math.pow(f - mean, 2))
-                .sum() / letterFreqs.size();
+            double squares = 0;
+            double squaresError = 0;
+            for (int i = 0; i < length; i++) {
+                double deviation = LETTER_FREQ[word.charAt(i) - 'a'] - mean;
+
+                double corrected = deviation * deviation - squaresError;
+                double sum = squares + corrected;
+                squaresError = (sum - squares) - corrected;
+                squares = sum;
+            }
+            double variance = (squares - squaresError) / length;
             double stdDev = Math.sqrt(variance);
             baseScore += stdDev * 0.7;
         }
 
         // Alphabetical position variation
-        double sumPositions = word.chars()
-            .mapToDouble(c -> c - 'a')
-            .sum();
-        double avgPosition = sumPositions / word.length();
+        double avgPosition = (double) sumPositions / length;
         double positionFactor = (avgPosition / 12.5) * 0.6;
         baseScore += positionFactor;
 
         return Math.max(0.0, Math.min(100.0, baseScore));
     }
 
-    /**
-     * Score based on letter patterns with fine granularity.
-     */
     /**
      * Score based on letter patterns with maximum granularity.
      */
-    private double getPatternScore(String word) {
+    private static double getPatternScore(CharSequence word) {
+        int length = word.length();
         double score = 50.0;
 
         // Count common digrams and track positions
         int digramCount = 0;
-        List<Integer> digramPositions = new ArrayList<>();
-        for (int i = 0; i < word.length() - 1; i++) {
-            String digram = word.substring(i, i + 2);
-            if (COMMON_DIGRAMS.contains(digram)) {
+        int firstDigram = -1;
+        int lastDigram = -1;
+        for (int i = 0; i < length - 1; i++) {
+            if (IS_COMMON_DIGRAM[(word.charAt(i) - 'a') * 26 + word.charAt(i + 1) - 'a']) {
                 digramCount++;
-                digramPositions.add(i);
+                if (firstDigram == -1) firstDigram = i;
+                lastDigram = i;
             }
         }
 
@@ -263,27 +308,36 @@ public class WordDifficultyRanker {
         score -= digramBonus;
 
         // Position-based bonuses
-        if (!digramPositions.isEmpty()) {
-            if (digramPositions.get(0) == 0) {
+        if (digramCount > 0) {
+            if (firstDigram == 0) {
                 score -= 2.3;
             }
             // Well-spaced digrams
-            if (digramPositions.size() > 1) {
-                double avgGap = (double)(digramPositions.get(digramPositions.size() - 1) - digramPositions.get(0)) / (digramPositions.size() - 1);
+            if (digramCount > 1) {
+                double avgGap = (double) (lastDigram - firstDigram) / (digramCount - 1);
                 if (avgGap >= 2 && avgGap <= 3) {
                     score -= 1.5;
                 }
             }
         }
 
-        // Repeated letters
-        Map<Character, Integer> letterCounts = new HashMap<>();
-        for (char c : word.toCharArray()) {
-            letterCounts.put(c, letterCounts.getOrDefault(c, 0) + 1);
-        }
+        // Repeated letters, counting each letter at its first occurrence
+        int maxRepeat = 1;
+        int numRepeatedLetters = 0;
+        int counted = 0;
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            int bit = 1 << (c - 'a');
+            if ((counted & bit) != 0) continue;
+            counted |= bit;
 
-        int maxRepeat = letterCounts.values().stream().max(Integer::compare).orElse(1);
-        long numRepeatedLetters = letterCounts.values().stream().filter(count -> count > 1).count();
+            int count = 1;
+            for (int j = i + 1; j < length; j++) {
+                if (word.charAt(j) == c) count++;
+            }
+            maxRepeat = Math.max(maxRepeat, count);
+            if (count > 1) numRepeatedLetters++;
+        }
 
         if (maxRepeat > 1) {
             double repeatBonus = Math.min((maxRepeat - 1) * 4.7, 15.0);
@@ -298,9 +352,31 @@ public class WordDifficultyRanker {
             score += (maxRepeat - 2) * 3.4;
         }
 
-        // Vowel density
-        long vowels = word.chars().filter(c -> "aeiou".indexOf(c) >= 0).count();
-        double vowelRatio = (double) vowels / word.length();
+        // Vowel density, consonant clusters, alternation and double letters in one pass
+        int vowels = 0;
+        int consonantRun = 0;
+        int maxConsonantRun = 0;
+        int alternations = 0;
+        int doubleCount = 0;
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            boolean vowel = isVowel(c);
+            if (vowel) {
+                vowels++;
+                consonantRun = 0;
+            } else {
+                consonantRun++;
+                maxConsonantRun = Math.max(maxConsonantRun, consonantRun);
+            }
+
+            if (i + 1 < length) {
+                char next = word.charAt(i + 1);
+                if (vowel != isVowel(next)) alternations++;
+                if (c == next) doubleCount++;
+            }
+        }
+
+        double vowelRatio = (double) vowels / length;
 
         double ratioDeviation = Math.abs(vowelRatio - 0.4);
         double vowelPenalty = ratioDeviation * 24.5;
@@ -310,45 +386,17 @@ public class WordDifficultyRanker {
             score += 9.8;
         }
 
-        // Consonant clusters
-        int consonantRun = 0;
-        int maxConsonantRun = 0;
-        for (char c : word.toCharArray()) {
-            if ("aeiou".indexOf(c) < 0) {
-                consonantRun++;
-                maxConsonantRun = Math.max(maxConsonantRun, consonantRun);
-            } else {
-                consonantRun = 0;
-            }
-        }
-
         if (maxConsonantRun >= 3) {
             score += (maxConsonantRun - 2) * 1.6;
         }
 
         // Alternating vowel/consonant pattern
-        int alternations = 0;
-        for (int i = 0; i < word.length() - 1; i++) {
-            boolean isVowel1 = "aeiou".indexOf(word.charAt(i)) >= 0;
-            boolean isVowel2 = "aeiou".indexOf(word.charAt(i + 1)) >= 0;
-            if (isVowel1 != isVowel2) {
-                alternations++;
-            }
-        }
-
-        double alternationRatio = (double) alternations / Math.max(1, word.length() - 1);
+        double alternationRatio = (double) alternations / Math.max(1, length - 1);
         if (alternationRatio > 0.6) {
             score -= alternationRatio * 3.2;
         }
 
         // Double letter patterns
-        int doubleCount = 0;
-        for (int i = 0; i < word.length() - 1; i++) {
-            if (word.charAt(i) == word.charAt(i + 1)) {
-                doubleCount++;
-            }
-        }
-
         if (doubleCount > 0) {
             score -= doubleCount * 1.8;
         }
@@ -356,22 +404,19 @@ public class WordDifficultyRanker {
         return Math.max(0.0, Math.min(100.0, score));
     }
 
-    /**
-     * Score based on word commonness with fine granularity.
-     */
     /**
      * Score based on word commonness with maximum granularity.
      */
-    private double getCommonnessScore(String word) {
+    private static double getCommonnessScore(CharSequence word) {
+        int len = word.length();
         double baseScore;
 
-        if (VERY_COMMON_WORDS.contains(word)) {
+        if (contains(VERY_COMMON_WORDS, word)) {
             baseScore = 0.0;
-        } else if (COMMON_WORDS.contains(word)) {
+        } else if (contains(COMMON_WORDS, word)) {
             baseScore = 15.0;
         } else {
             // Fine-grained length-based heuristic
-            int len = word.length();
             if (len <= 3) {
                 baseScore = 65.0 + len * 2.3;
             } else if (len <= 5) {
@@ -388,22 +433,20 @@ public class WordDifficultyRanker {
         // Fine variations based on letter characteristics
 
         // 1. First letter position
-        if (!word.isEmpty()) {
-            int firstLetterIndex = word.charAt(0) - 'a';
-            double letterPenalty = (firstLetterIndex / 25.0) * 4.8;
-            baseScore += letterPenalty;
-        }
+        int firstLetterIndex = word.charAt(0) - 'a';
+        double letterPenalty = (firstLetterIndex / 25.0) * 4.8;
+        baseScore += letterPenalty;
 
         // 2. Last letter frequency
-        if (!word.isEmpty()) {
-            double lastLetterFreq = LETTER_FREQ.getOrDefault(word.charAt(word.length() - 1), 3.0);
-            double lastLetterFactor = (8.0 - lastLetterFreq) * 0.3;
-            baseScore += lastLetterFactor;
-        }
+        double lastLetterFreq = LETTER_FREQ[word.charAt(len - 1) - 'a'];
+        double lastLetterFactor = (8.0 - lastLetterFreq) * 0.3;
+        baseScore += lastLetterFactor;
 
         // 3. Vowel-to-consonant ratio in first 3 letters
-        String firstThree = word.substring(0, Math.min(3, word.length()));
-        long firstVowels = firstThree.chars().filter(c -> "aeiou".indexOf(c) >= 0).count();
+        int firstVowels = 0;
+        for (int i = 0; i < Math.min(3, len); i++) {
+            if (isVowel(word.charAt(i))) firstVowels++;
+        }
         if (firstVowels == 0) {
             baseScore += 1.2;
         } else if (firstVowels >= 2) {
@@ -411,30 +454,22 @@ public class WordDifficultyRanker {
         }
 
         // 4. Common prefixes
-        String[] commonPrefixes = {"un", "re", "in", "de", "dis", "pre", "sub", "con", "com"};
-        if (word.length() >= 2) {
-            String prefix2 = word.substring(0, 2);
-            for (String prefix : commonPrefixes) {
-                if (prefix.equals(prefix2)) {
-                    baseScore -= 2.1;
-                    break;
-                }
+        for (String prefix : COMMON_PREFIXES) {
+            if (prefix.length() == 2 && startsWith(word, prefix)) {
+                baseScore -= 2.1;
+                break;
             }
         }
-        if (word.length() >= 3) {
-            String prefix3 = word.substring(0, 3);
-            for (String prefix : commonPrefixes) {
-                if (prefix.equals(prefix3)) {
-                    baseScore -= 2.3;
-                    break;
-                }
+        for (String prefix : COMMON_PREFIXES) {
+            if (prefix.length() == 3 && startsWith(word, prefix)) {
+                baseScore -= 2.3;
+                break;
             }
         }
 
         // 5. Common suffixes
-        String[] commonSuffixes = {"ing", "ed", "er", "ly", "tion", "ness", "ment"};
-        for (String suffix : commonSuffixes) {
-            if (word.length() > suffix.length() && word.endsWith(suffix)) {
+        for (String suffix : COMMON_SUFFIXES) {
+            if (len > suffix.length() && endsWith(word, suffix)) {
                 baseScore -= 1.8;
                 break;
             }
@@ -443,6 +478,52 @@ public class WordDifficultyRanker {
         return Math.max(0.0, Math.min(100.0, baseScore));
     }
 
+    private static boolean startsWith(CharSequence word, String prefix) {
+        if (word.length() < prefix.length()) return false;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (word.charAt(i) != prefix.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static boolean endsWith(CharSequence word, String suffix) {
+        int offset = word.length() - suffix.length();
+        if (offset < 0) return false;
+        for (int i = 0; i < suffix.length(); i++) {
+            if (word.charAt(offset + i) != suffix.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Binary searches a sorted word list without turning the word into a String.
+     */
+    private static boolean contains(String[] sortedWords, CharSequence word) {
+        int low = 0;
+        int high = sortedWords.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(sortedWords[mid], word);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int compare(String a, CharSequence b) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            int diff = a.charAt(i) - b.charAt(i);
+            if (diff != 0) return diff;
+        }
+        return a.length() - b.length();
+    }
+
     /**
      * Rank a list of words by difficulty.
      */
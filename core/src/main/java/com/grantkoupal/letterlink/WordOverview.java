@@ -113,7 +113,7 @@ public class WordOverview extends Page {
 
             for(int i = 0; i < Board.getWordsInBoard().size(); i++){
                 String word = Board.getWordsInBoard().get(i);
-                if(Board.getListOfWordsFound().contains(word)){
+                if(Board.getRegistry().isFound(i)){
                     foundWords.add(word);
                 } else {
                     if(Solver.isCommon(word)){
@@ -0,0 +1,209 @@
+package com.grantkoupal.letterlink;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tracks which words of a solved board the player has found.
+ *
+ * Found words are a BitSet over the board's word indices. The words are also sorted by
+ * difficulty once when the board loads, with a Fenwick tree counting the unfound words at each
+ * sorted position. Marking a word found, counting the unfound words below a difficulty and
+ * picking a random one are a binary search or tree walk over that order; nothing copies or
+ * scans the word list.
+ *
+ * Used on the render thread only.
+ */
+public class WordRegistry {
+
+    // ===== Board =====
+    private final SolveResult board;
+
+    // ===== Found Words =====
+    private final BitSet found;
+    private final List<String> foundWords = new ArrayList<String>();
+    private final List<String> foundWordsView = Collections.unmodifiableList(foundWords);
+
+    // ===== Remaining Words =====
+    private final int[] sortedWords;          // word indices, easiest first
+    private final float[] sortedDifficulties; // difficulty of each sortedWords entry
+    private final int[] sortedPositions;      // position of each word in sortedWords
+    private final int[] remainingTree;        // Fenwick tree of unfound words over sorted positions
+    private int remainingCount;
+
+    /**
+     * Creates a registry with no words found.
+     * Sorts the words by their dictionary difficulty.
+     */
+    public WordRegistry(SolveResult board) {
+        this.board = board;
+        final int wordCount = board.getNumWords();
+
+        this.found = new BitSet(wordCount);
+        this.remainingCount = wordCount;
+
+        Integer[] order = new Integer[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Float.compare(board.getWordDifficulty(a), board.getWordDifficulty(b));
+            }
+        });
+
+        this.sortedWords = new int[wordCount];
+        this.sortedDifficulties = new float[wordCount];
+        this.sortedPositions = new int[wordCount];
+        for (int position = 0; position < wordCount; position++) {
+            sortedWords[position] = order[position];
+            sortedDifficulties[position] = board.getWordDifficulty(order[position]);
+            sortedPositions[order[position]] = position;
+        }
+
+        // Every word starts unfound: node i of a Fenwick tree covers the lowbit(i) positions ending at i
+        this.remainingTree = new int[wordCount + 1];
+        for (int i = 1; i <= wordCount; i++) {
+            remainingTree[i] = i & -i;
+        }
+    }
+
+    // ======================================================================
+    // Found Words
+    // ======================================================================
+
+    /**
+     * Records a word as found.
+     *
+     * @param index Index of the word in the board's word list
+     * @return true if the word had not been found yet
+     */
+    public boolean markFound(int index) {
+        if (found.get(index)) {
+            return false;
+        }
+
+        found.set(index);
+        foundWords.add(board.getWords().get(index));
+
+        for (int i = sortedPositions[index] + 1; i < remainingTree.length; i += i & -i) {
+            remainingTree[i]--;
+        }
+        remainingCount--;
+        return true;
+    }
+
+    public boolean isFound(int index) {
+        return found.get(index);
+    }
+
+    /**
+     * Gets the found words in the order they were found (read-only, grows as words are found).
+     */
+    public List<String> getFoundWords() {
+        return foundWordsView;
+    }
+
+    // ======================================================================
+    // Remaining Words
+    // ======================================================================
+
+    public int getRemainingCount() {
+        return remainingCount;
+    }
+
+    /**
+     * Counts the unfound words easier than a difficulty.
+     */
+    public int getRemainingCount(double maxDifficulty) {
+        return countRemaining(countBelow(maxDifficulty));
+    }
+
+    /**
+     * Picks a random unfound word easier than a difficulty, each such word being equally likely.
+     *
+     * @return Word, or null if every word that easy has been found
+     */
+    public String getRandomRemainingWord(double maxDifficulty) {
+        int count = getRemainingCount(maxDifficulty);
+        if (count == 0) {
+            return null;
+        }
+        return board.getWords().get(sortedWords[findRemaining((int) (Math.random() * count))]);
+    }
+
+    /**
+     * Gets the difficulty of the easiest unfound word.
+     *
+     * @return Difficulty, or NaN if every word has been found
+     */
+    public float getEasiestRemainingDifficulty() {
+        if (remainingCount == 0) {
+            return Float.NaN;
+        }
+        return sortedDifficulties[findRemaining(0)];
+    }
+
+    /**
+     * Gets a word's difficulty.
+     *
+     * @param index Index of the word in the board's word list
+     */
+    public float getDifficulty(int index) {
+        return board.getWordDifficulty(index);
+    }
+
+    public SolveResult getBoard() {
+        return board;
+    }
+
+    /**
+     * Binary searches the sorted difficulties.
+     *
+     * @return Number of words easier than maxDifficulty, found or not
+     */
+    private int countBelow(double maxDifficulty) {
+        int low = 0;
+        int high = sortedDifficulties.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedDifficulties[mid] < maxDifficulty) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Counts the unfound words among the first positions of the sorted order.
+     */
+    private int countRemaining(int positions) {
+        int count = 0;
+        for (int i = positions; i > 0; i -= i & -i) {
+            count += remainingTree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Finds the sorted position of the n-th (from 0) unfound word by descending the Fenwick tree.
+     */
+    private int findRemaining(int n) {
+        int position = 0;
+        for (int step = Integer.highestOneBit(Math.max(1, remainingTree.length - 1)); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < remainingTree.length && remainingTree[next] <= n) {
+                position = next;
+                n -= remainingTree[next];
+            }
+        }
+        return position;
+    }
+}